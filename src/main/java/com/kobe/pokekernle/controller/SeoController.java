@@ -1,75 +1,74 @@
 package com.kobe.pokekernle.controller;
 
-import com.kobe.pokekernle.domain.card.entity.Card;
-import com.kobe.pokekernle.domain.card.repository.CardRepository;
+import com.kobe.pokekernle.domain.card.service.SitemapService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 /**
  * packageName    : com.kobe.pokekernle.controller
  * fileName       : SeoController
  * author         : kobe
  * date           : 2025. 12. 22.
- * description    : SEO 관련 컨트롤러 (Sitemap 생성)
+ * description    : SEO 관련 컨트롤러 (Sitemap 제공)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2025. 12. 22.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       요청마다 생성하던 사이트맵을 SitemapService가 미리 만든 파일(인덱스 + gzip 분할) 제공으로 변경
  */
 @RestController
 @RequiredArgsConstructor
 public class SeoController {
 
-    private final CardRepository cardRepository;
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
 
-    @Value("${app.site.url:http://localhost:8080}")
-    private String siteUrl;
+    private final SitemapService sitemapService;
 
-    @GetMapping(value = "/sitemap.xml", produces = MediaType.APPLICATION_XML_VALUE)
-    public String sitemap() {
-        StringBuilder xml = new StringBuilder();
-        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-        xml.append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
-
-        // 메인 페이지
-        addUrl(xml, siteUrl + "/", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE), "daily", "1.0");
-
-        // 카드 목록 페이지
-        addUrl(xml, siteUrl + "/cards", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE), "daily", "0.8");
-
-        // 컬렉션 페이지
-        addUrl(xml, siteUrl + "/collection", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE), "weekly", "0.7");
-
-        // 각 카드 상세 페이지
-        List<Card> cards = cardRepository.findAll();
-        for (Card card : cards) {
-            addUrl(xml, siteUrl + "/cards/" + card.getId(), 
-                   card.getUpdatedAt() != null ? card.getUpdatedAt().format(DateTimeFormatter.ISO_DATE) : LocalDateTime.now().format(DateTimeFormatter.ISO_DATE),
-                   "weekly", "0.6");
-        }
-
-        xml.append("</urlset>");
-        return xml.toString();
+    /**
+     * 사이트맵 인덱스
+     */
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<Resource> sitemap(WebRequest webRequest) throws IOException {
+        SitemapService.Snapshot snapshot = sitemapService.current();
+        return serve(webRequest, snapshot, snapshot.index(), MediaType.APPLICATION_XML);
     }
 
-    private void addUrl(StringBuilder xml, String loc, String lastmod, String changefreq, String priority) {
-        xml.append("  <url>\n");
-        xml.append("    <loc>").append(escapeXml(loc)).append("</loc>\n");
-        xml.append("    <lastmod>").append(lastmod).append("</lastmod>\n");
-        xml.append("    <changefreq>").append(changefreq).append("</changefreq>\n");
-        xml.append("    <priority>").append(priority).append("</priority>\n");
-        xml.append("  </url>\n");
+    /**
+     * 사이트맵 분할 파일 (sitemap-N.xml.gz)
+     */
+    @GetMapping("/sitemaps/{name:.+}")
+    public ResponseEntity<Resource> sitemapShard(@PathVariable String name, WebRequest webRequest) throws IOException {
+        SitemapService.Snapshot snapshot = sitemapService.current();
+        Path shard = snapshot.shard(name);
+        if (shard == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return serve(webRequest, snapshot, shard, GZIP);
     }
 
-    private String escapeXml(String str) {
-        return str.replace("&", "&amp;")
-                  .replace("<", "&lt;")
-                  .replace(">", "&gt;")
-                  .replace("\"", "&quot;")
-                  .replace("'", "&apos;");
+    private ResponseEntity<Resource> serve(WebRequest webRequest, SitemapService.Snapshot snapshot,
+                                           Path file, MediaType contentType) {
+        // If-Modified-Since가 생성 시각 이후면 304 (본문과 DB 조회 모두 없음)
+        if (webRequest.checkNotModified(snapshot.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .lastModified(snapshot.lastModified())
+                .cacheControl(CACHE_CONTROL)
+                .contentType(contentType)
+                .body(new FileSystemResource(file));
     }
 }
-
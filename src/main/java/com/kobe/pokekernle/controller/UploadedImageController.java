@@ -0,0 +1,202 @@
+package com.kobe.pokekernle.controller;
+
+import com.kobe.pokekernle.domain.admin.service.LocalImageFileCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.kobe.pokekernle.controller
+ * fileName       : UploadedImageController
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 로컬 저장 업로드 이미지 제공 (CDN 없이 운영할 때)
+ *                  Tomcat sendfile이 가능하면 커널에서 바로 전송하고, 아니면 FileChannel.transferTo로 전송합니다.
+ *                  Range(단일 구간), ETag(If-None-Match), If-Modified-Since, If-Range를 지원합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성 (WebConfig 정적 리소스 핸들러 대체)
+ */
+@Controller
+@RequiredArgsConstructor
+public class UploadedImageController {
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 내용이 바뀌면 이름(해시)이 바뀌므로 1년 캐시
+    private static final String CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue();
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private final LocalImageFileCache fileCache;
+
+    @GetMapping("${app.upload.url-prefix:/uploads/images}/{fileName:.+}")
+    public void serve(@PathVariable String fileName,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        LocalImageFileCache.OpenFile file = fileCache.acquire(fileName);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        try {
+            response.setHeader(HttpHeaders.ETAG, file.etag());
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, file.lastModified());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            if (isNotModified(request, file)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            long start = 0;
+            long length = file.size();
+            String range = request.getHeader(HttpHeaders.RANGE);
+            if (range != null && isRangeApplicable(request, file)) {
+                long[] parsed = parseRange(range, file.size());
+                if (parsed == UNSATISFIABLE) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                if (parsed != null) {
+                    start = parsed[0];
+                    length = parsed[1] - parsed[0] + 1;
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE,
+                            "bytes " + parsed[0] + "-" + parsed[1] + "/" + file.size());
+                }
+            }
+
+            response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+            response.setContentLengthLong(length);
+            if ("HEAD".equals(request.getMethod()) || length == 0) {
+                return;
+            }
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                // 응답 본문은 서블릿이 끝난 뒤 Tomcat이 sendfile로 전송
+                request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, start + length);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = file.channel().transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break; // 파일이 줄어든 경우
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } finally {
+            file.release();
+        }
+    }
+
+    /**
+     * If-None-Match가 있으면 그것만 보고(약한 비교), 없으면 If-Modified-Since를 봄
+     */
+    private boolean isNotModified(HttpServletRequest request, LocalImageFileCache.OpenFile file) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if ("*".equals(candidate) || file.etag().equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && file.lastModified() / 1000 * 1000 <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range가 현재 파일과 같을 때만 Range 적용 (강한 ETag 또는 초 단위 수정 시각)
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, LocalImageFileCache.OpenFile file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.trim().startsWith("\"")) {
+            return file.etag().equals(ifRange.trim());
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && file.lastModified() / 1000 * 1000 == date;
+    }
+
+    /**
+     * 단일 구간 Range 해석 ("bytes=a-b", "bytes=a-", "bytes=-n")
+     * @return {시작, 끝(포함)}, 여러 구간이거나 형식이 잘못되었으면 null(전체 응답), 범위 밖이면 UNSATISFIABLE
+     */
+    private static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 마지막 n바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(size - suffix, 0), size - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            if (end < start) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1; // 날짜 형식이 아니면 무시
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.kobe.pokekernle.domain.admin.controller;
 
+import com.kobe.pokekernle.domain.admin.service.CardImportJobService;
+import com.kobe.pokekernle.domain.admin.service.ImageUploadJobService;
 import com.kobe.pokekernle.domain.admin.service.ImageUploadService;
 import com.kobe.pokekernle.domain.card.entity.Card;
 import com.kobe.pokekernle.domain.card.entity.CardCategory;
@@ -14,12 +16,16 @@ import com.kobe.pokekernle.domain.card.repository.PriceHistoryRepository;
 import com.kobe.pokekernle.domain.card.response.CardListResponse;
 import com.kobe.pokekernle.domain.card.service.CardService;
 import com.kobe.pokekernle.domain.collection.repository.UserCardRepository;
+import com.kobe.pokekernle.domain.collection.service.CollectionSummaryCache;
+import com.kobe.pokekernle.domain.collection.service.PortfolioValuationService;
 import com.kobe.pokekernle.domain.onepiece.box.entity.OnePieceBox;
 import com.kobe.pokekernle.domain.onepiece.box.entity.OnePieceBoxMarketPrice;
 import com.kobe.pokekernle.domain.onepiece.box.repository.OnePieceBoxRepository;
 import com.kobe.pokekernle.domain.onepiece.box.repository.OnePieceBoxMarketPriceRepository;
+import com.kobe.pokekernle.domain.order.service.FlashSaleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,8 +34,12 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * packageName    : com.kobe.pokekernle.domain.admin.controller
@@ -41,6 +51,14 @@ import java.util.List;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 22.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       한정 판매(드롭) 모드 전환 추가
+ * 2026. 10. 19.        kobe       업로드 이미지의 파생 이미지(srcset) 스펙 저장
+ * 2026. 10. 19.        kobe       원피스 박스 6면 이미지 동시 업로드
+ * 2026. 10. 19.        kobe       카드 이미지 비동기 업로드 및 업로드 작업 상태 조회 추가
+ * 2026. 10. 19.        kobe       시세 변경/카드 삭제 시 컬렉션 요약 캐시 비움
+ * 2026. 10. 19.        kobe       시세 기록/카드 삭제를 컬렉션 평가액 추이에 반영
+ * 2026. 10. 19.        kobe       카드 대량 등록(CSV/NDJSON) 및 작업 상태 조회 추가
+ * 2026. 10. 19.        kobe       원피스 박스 등록 실패 시 업로드 이미지를 바로 삭제하지 않음 (미사용 이미지 정리에 맡김)
  */
 @Slf4j
 @Controller
@@ -49,13 +67,18 @@ import java.util.List;
 public class AdminController {
 
     private final ImageUploadService imageUploadService;
+    private final ImageUploadJobService imageUploadJobService;
     private final CardService cardService;
     private final CardRepository cardRepository;
     private final MarketPriceRepository marketPriceRepository;
     private final PriceHistoryRepository priceHistoryRepository;
     private final UserCardRepository userCardRepository;
+    private final CollectionSummaryCache collectionSummaryCache;
+    private final PortfolioValuationService portfolioValuationService;
     private final OnePieceBoxRepository onePieceBoxRepository;
     private final OnePieceBoxMarketPriceRepository onePieceBoxMarketPriceRepository;
+    private final FlashSaleService flashSaleService;
+    private final CardImportJobService cardImportJobService;
 
     // 1. 카드 등록 페이지 보여주기
     @GetMapping("/cards/register")
@@ -99,19 +122,6 @@ public class AdminController {
             @RequestParam(required = false) String category,
             RedirectAttributes redirectAttributes
     ) {
-        // 이미지 업로드 처리
-        String uploadedImageUrl = null;
-        if (imageFile != null && !imageFile.isEmpty()) {
-            try {
-                uploadedImageUrl = imageUploadService.uploadImage(imageFile);
-                log.info("[ADMIN] 이미지 업로드 완료: {}", uploadedImageUrl);
-            } catch (Exception e) {
-                log.error("[ADMIN] 이미지 업로드 실패", e);
-                redirectAttributes.addFlashAttribute("error", "이미지 업로드 실패: " + e.getMessage());
-                return "redirect:/admin/cards/register";
-            }
-        }
-
         // 필수 정보 검증
         if (name == null || name.isBlank()) {
             redirectAttributes.addFlashAttribute("error", "카드 이름은 필수입니다.");
@@ -194,7 +204,6 @@ public class AdminController {
                     .cardCondition(cardConditionEnum)
                     .collectionStatus(collectionStatusEnum)
                     .imageUrl(imageUrl != null && !imageUrl.isBlank() ? imageUrl.trim() : null)
-                    .uploadedImageUrl(uploadedImageUrl)
                     .salePrice(salePriceLong)
                     .quantity(quantityInt)
                     .cardCategory(cardCategoryEnum)
@@ -203,6 +212,9 @@ public class AdminController {
             cardRepository.save(card);
             log.info("[ADMIN] 카드 등록 완료 - Card ID: {}", card.getId());
 
+            // 이미지는 백그라운드에서 업로드한 뒤 카드에 연결
+            String uploadJobId = submitCardImage(card.getId(), imageFile, redirectAttributes);
+
             // 현재 시세(USD) 처리
             if (currentPriceUsd != null && !currentPriceUsd.isBlank()) {
                 try {
@@ -236,6 +248,8 @@ public class AdminController {
                             .build();
                     priceHistoryRepository.save(priceHistory);
                     log.info("[ADMIN] PriceHistory 기록 추가 완료 - Card ID: {}, Price: ${}", card.getId(), price);
+                    collectionSummaryCache.evictAll(); // 시세 변경 → 컬렉션 평가액 다시 계산
+                    portfolioValuationService.onPriceRecorded(card.getId(), priceHistory.getRecordedAt(), price);
                 } catch (NumberFormatException e) {
                     log.warn("[ADMIN] 현재 시세(USD) 파싱 실패: {}", currentPriceUsd);
                     redirectAttributes.addFlashAttribute("error", "현재 시세(USD) 형식이 올바르지 않습니다.");
@@ -246,6 +260,9 @@ public class AdminController {
             if (currentPriceUsd != null && !currentPriceUsd.isBlank()) {
                 successMessage += " 현재 시세(USD): $" + currentPriceUsd + "가 기록되었습니다.";
             }
+            if (uploadJobId != null) {
+                successMessage += " 이미지는 백그라운드에서 처리 중입니다. (작업 ID: " + uploadJobId + ")";
+            }
             redirectAttributes.addFlashAttribute("message", successMessage);
         } catch (Exception e) {
             log.error("[ADMIN] 카드 등록 실패", e);
@@ -273,51 +290,31 @@ public class AdminController {
             @RequestParam(required = false) String quantity,
             RedirectAttributes redirectAttributes
     ) {
-        // 6면 이미지 업로드 처리
-        String frontImageUrl = null;
-        String backImageUrl = null;
-        String leftImageUrl = null;
-        String rightImageUrl = null;
-        String topImageUrl = null;
-        String bottomImageUrl = null;
+        // 필수 정보 검증 (이미지를 올리기 전에 확인)
+        if (name == null || name.isBlank()) {
+            redirectAttributes.addFlashAttribute("error", "박스 이름은 필수입니다.");
+            return "redirect:/admin/cards/register";
+        }
 
+        // 6면 이미지 동시 업로드 (하나라도 실패하면 올라간 이미지는 모두 삭제됨)
+        Map<String, MultipartFile> faceFiles = new LinkedHashMap<>();
+        faceFiles.put("front", frontImageFile);
+        faceFiles.put("back", backImageFile);
+        faceFiles.put("left", leftImageFile);
+        faceFiles.put("right", rightImageFile);
+        faceFiles.put("top", topImageFile);
+        faceFiles.put("bottom", bottomImageFile);
+
+        Map<String, ImageUploadService.StoredImage> faces;
         try {
-            if (frontImageFile != null && !frontImageFile.isEmpty()) {
-                frontImageUrl = imageUploadService.uploadImage(frontImageFile);
-                log.info("[ADMIN] 앞면 이미지 업로드 완료: {}", frontImageUrl);
-            }
-            if (backImageFile != null && !backImageFile.isEmpty()) {
-                backImageUrl = imageUploadService.uploadImage(backImageFile);
-                log.info("[ADMIN] 뒷면 이미지 업로드 완료: {}", backImageUrl);
-            }
-            if (leftImageFile != null && !leftImageFile.isEmpty()) {
-                leftImageUrl = imageUploadService.uploadImage(leftImageFile);
-                log.info("[ADMIN] 왼쪽면 이미지 업로드 완료: {}", leftImageUrl);
-            }
-            if (rightImageFile != null && !rightImageFile.isEmpty()) {
-                rightImageUrl = imageUploadService.uploadImage(rightImageFile);
-                log.info("[ADMIN] 오른쪽면 이미지 업로드 완료: {}", rightImageUrl);
-            }
-            if (topImageFile != null && !topImageFile.isEmpty()) {
-                topImageUrl = imageUploadService.uploadImage(topImageFile);
-                log.info("[ADMIN] 윗면 이미지 업로드 완료: {}", topImageUrl);
-            }
-            if (bottomImageFile != null && !bottomImageFile.isEmpty()) {
-                bottomImageUrl = imageUploadService.uploadImage(bottomImageFile);
-                log.info("[ADMIN] 아랫면 이미지 업로드 완료: {}", bottomImageUrl);
-            }
+            faces = imageUploadService.uploadImages(faceFiles);
+            log.info("[ADMIN] 박스 이미지 업로드 완료 - {}", faces.keySet());
         } catch (Exception e) {
             log.error("[ADMIN] 이미지 업로드 실패", e);
             redirectAttributes.addFlashAttribute("error", "이미지 업로드 실패: " + e.getMessage());
             return "redirect:/admin/cards/register";
         }
 
-        // 필수 정보 검증
-        if (name == null || name.isBlank()) {
-            redirectAttributes.addFlashAttribute("error", "박스 이름은 필수입니다.");
-            return "redirect:/admin/cards/register";
-        }
-
         try {
             // 판매 가격 파싱 (원화)
             Long salePriceLong = null;
@@ -369,12 +366,13 @@ public class AdminController {
                     .setName(setName != null && !setName.isBlank() ? setName.trim() : "Unknown Set")
                     .condition(conditionEnum)
                     .collectionStatus(collectionStatusEnum)
-                    .frontImageUrl(frontImageUrl)
-                    .backImageUrl(backImageUrl)
-                    .leftImageUrl(leftImageUrl)
-                    .rightImageUrl(rightImageUrl)
-                    .topImageUrl(topImageUrl)
-                    .bottomImageUrl(bottomImageUrl)
+                    .frontImageUrl(urlOf(faces.get("front")))
+                    .backImageUrl(urlOf(faces.get("back")))
+                    .leftImageUrl(urlOf(faces.get("left")))
+                    .rightImageUrl(urlOf(faces.get("right")))
+                    .topImageUrl(urlOf(faces.get("top")))
+                    .bottomImageUrl(urlOf(faces.get("bottom")))
+                    .imageVariants(commonVariants(faces.values()))
                     .salePrice(salePriceLong)
                     .quantity(quantityInt)
                     .cardCategory(CardCategory.ONEPIECE_BOX)
@@ -433,18 +431,8 @@ public class AdminController {
         Card card = cardRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카드입니다. ID=" + id));
 
-        // 이미지 업로드 처리
-        String uploadedImageUrl = null;
-        if (imageFile != null && !imageFile.isEmpty()) {
-            try {
-                uploadedImageUrl = imageUploadService.uploadImage(imageFile);
-                log.info("[ADMIN] 이미지 업로드 완료: {}", uploadedImageUrl);
-            } catch (Exception e) {
-                log.error("[ADMIN] 이미지 업로드 실패", e);
-                redirectAttributes.addFlashAttribute("error", "이미지 업로드 실패: " + e.getMessage());
-                return "redirect:/admin/cards/edit/" + id;
-            }
-        }
+        // 이미지는 이 트랜잭션이 커밋된 뒤 백그라운드에서 업로드하고 카드의 업로드 이미지를 교체
+        String uploadJobId = submitCardImage(id, imageFile, redirectAttributes);
 
         // 판매 가격 파싱
         Long salePriceLong = null;
@@ -521,13 +509,16 @@ public class AdminController {
                 cardConditionEnum,
                 collectionStatusEnum,
                 imageUrl,
-                uploadedImageUrl != null ? uploadedImageUrl : card.getUploadedImageUrl(),
+                null, // 업로드 이미지는 업로드 작업이 끝나면 교체
                 salePriceLong,
                 quantityInt,
                 cardCategoryEnum != null ? cardCategoryEnum : card.getCardCategory()
         );
 
         cardRepository.save(card);
+        if (quantityInt != null) {
+            flashSaleService.onStockChanged(id); // 재입고 시 한정 판매 품절 표시 해제
+        }
         log.info("[ADMIN] 카드 수정 완료 - Card ID: {}", id);
 
         // 현재 시세(USD) 처리
@@ -563,6 +554,8 @@ public class AdminController {
                         .build();
                 priceHistoryRepository.save(priceHistory);
                 log.info("[ADMIN] PriceHistory 기록 추가 완료 - Card ID: {}, Price: ${}", card.getId(), price);
+                collectionSummaryCache.evictAll(); // 시세 변경 → 컬렉션 평가액 다시 계산
+                portfolioValuationService.onPriceRecorded(card.getId(), priceHistory.getRecordedAt(), price);
             } catch (NumberFormatException e) {
                 log.warn("[ADMIN] 현재 시세(USD) 파싱 실패: {}", currentPriceUsd);
                 redirectAttributes.addFlashAttribute("error", "현재 시세(USD) 형식이 올바르지 않습니다.");
@@ -573,6 +566,9 @@ public class AdminController {
         if (currentPriceUsd != null && !currentPriceUsd.isBlank()) {
             successMessage += " 현재 시세(USD): $" + currentPriceUsd + "가 기록되었습니다.";
         }
+        if (uploadJobId != null) {
+            successMessage += " 이미지는 백그라운드에서 처리 중입니다. (작업 ID: " + uploadJobId + ")";
+        }
         redirectAttributes.addFlashAttribute("message", successMessage);
         return "redirect:/admin/cards/list";
     }
@@ -597,6 +593,8 @@ public class AdminController {
             // 3. UserCard 삭제
             userCardRepository.deleteAll(userCardRepository.findByCard(card));
             log.info("[ADMIN] UserCard 삭제 완료 - Card ID: {}", id);
+            collectionSummaryCache.evictAll();
+            portfolioValuationService.onCardDeleted(id);
 
             // 4. Card 삭제
             cardRepository.delete(card);
@@ -637,4 +635,97 @@ public class AdminController {
 
         return "redirect:/admin/cards/list";
     }
+
+    // 9. 한정 판매(드롭) 모드 전환 (JSON, AJAX용)
+    @PostMapping("/cards/{id}/drop-mode")
+    @ResponseBody
+    public ResponseEntity<?> changeDropMode(@PathVariable Long id, @RequestParam boolean enabled) {
+        try {
+            flashSaleService.changeDropMode(id, enabled);
+            return ResponseEntity.ok(Map.of("cardId", id, "dropMode", enabled));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // 10. 이미지 업로드 작업 상태 조회 (JSON, AJAX용)
+    @GetMapping("/uploads/{jobId}")
+    @ResponseBody
+    public ResponseEntity<?> uploadJobStatus(@PathVariable String jobId) {
+        return imageUploadJobService.getStatus(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("message", "업로드 작업을 찾을 수 없습니다. (완료 후 시간이 지나 정리되었을 수 있습니다)")));
+    }
+
+    // 11. 카드 대량 등록 (CSV/NDJSON, JSON 응답 - 진행 상황은 작업 상태로 조회)
+    @PostMapping("/cards/import")
+    @ResponseBody
+    public ResponseEntity<?> importCards(@RequestParam(required = false) MultipartFile file,
+                                         @RequestParam(required = false) String format) {
+        if (file == null || file.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "등록할 파일을 선택해주세요."));
+        }
+        try {
+            String jobId = cardImportJobService.submit(file, format);
+            return ResponseEntity.accepted().body(Map.of("jobId", jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        } catch (IOException e) {
+            log.error("[ADMIN] 카드 대량 등록 작업 등록 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "파일을 저장하지 못했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 12. 카드 대량 등록 작업 상태 조회 (JSON, AJAX용)
+    @GetMapping("/cards/import/{jobId}")
+    @ResponseBody
+    public ResponseEntity<?> importJobStatus(@PathVariable String jobId) {
+        return cardImportJobService.getStatus(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("message", "대량 등록 작업을 찾을 수 없습니다. (완료 후 시간이 지나 정리되었을 수 있습니다)")));
+    }
+
+    /**
+     * 카드 이미지 비동기 업로드 등록 (완료되면 카드의 업로드 이미지를 교체)
+     * @return 작업 ID (이미지가 없거나 등록하지 못했으면 null)
+     */
+    private String submitCardImage(Long cardId, MultipartFile imageFile, RedirectAttributes redirectAttributes) {
+        if (imageFile == null || imageFile.isEmpty()) {
+            return null;
+        }
+        try {
+            return imageUploadJobService.submit(imageFile,
+                    stored -> cardService.changeUploadedImage(cardId, stored.url(), stored.variants()));
+        } catch (Exception e) {
+            log.error("[ADMIN] 이미지 업로드 작업 등록 실패 - Card ID: {}", cardId, e);
+            redirectAttributes.addFlashAttribute("error", "이미지 업로드 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String urlOf(ImageUploadService.StoredImage image) {
+        return image != null ? image.url() : null;
+    }
+
+    /**
+     * 업로드된 모든 면이 같은 파생 이미지 스펙을 가질 때만 그 스펙을 사용 (하나라도 없으면 원본만 사용)
+     */
+    private static String commonVariants(Collection<ImageUploadService.StoredImage> images) {
+        String common = null;
+        for (ImageUploadService.StoredImage image : images) {
+            if (image == null) {
+                continue;
+            }
+            if (image.variants() == null || (common != null && !common.equals(image.variants()))) {
+                return null;
+            }
+            common = image.variants();
+        }
+        return common;
+    }
 }
@@ -0,0 +1,53 @@
+package com.kobe.pokekernle.domain.admin.controller;
+
+import com.kobe.pokekernle.domain.order.dto.response.SalesReportResponse;
+import com.kobe.pokekernle.domain.order.service.SalesAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.admin.controller
+ * fileName       : AdminSalesController
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 관리자 판매 통계 API
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/sales")
+@RequiredArgsConstructor
+public class AdminSalesController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    // 1. 판매 통계 조회 (일별 매출, 카테고리별 판매량, 판매량 상위 카드)
+    @GetMapping("/report")
+    public ResponseEntity<SalesReportResponse> report(@RequestParam(defaultValue = "30") int days,
+                                                      @RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(salesAnalyticsService.getReport(days, top));
+    }
+
+    // 2. 마지막 집계 이후 주문을 즉시 반영
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestParam(defaultValue = "30") int days,
+                                     @RequestParam(defaultValue = "10") int top) {
+        try {
+            if (!salesAnalyticsService.refresh()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", "이미 집계가 진행 중입니다."));
+            }
+            return ResponseEntity.ok(salesAnalyticsService.getReport(days, top));
+        } catch (Exception e) {
+            log.error("[ADMIN] 판매 통계 집계 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("message", "판매 통계 집계 중 오류가 발생했습니다."));
+        }
+    }
+}
@@ -0,0 +1,529 @@
+package com.kobe.pokekernle.domain.admin.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kobe.pokekernle.domain.card.entity.CardCategory;
+import com.kobe.pokekernle.domain.card.entity.Rarity;
+import com.kobe.pokekernle.domain.card.service.CardKeyIndex;
+import com.kobe.pokekernle.domain.collection.entity.CardCondition;
+import com.kobe.pokekernle.domain.collection.entity.CollectionStatus;
+import com.kobe.pokekernle.global.util.CsvReader;
+import com.kobe.pokekernle.global.util.EnumLookup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.admin.service
+ * fileName       : CardImportJobService
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 카드 대량 등록 작업 (CSV 또는 NDJSON)
+ *                  요청 스레드에서는 파일을 임시 파일로 받아 두고 작업 ID만 반환하며, cardImportExecutor에서 한 행씩 흘려 읽습니다.
+ *                  (세트 이름, 카드 번호)가 같은 카드가 있으면 입력한 값만 수정하고 없으면 새로 등록하므로 같은 파일을 다시 올려도 결과가 같습니다.
+ *                  INSERT/UPDATE는 N건씩 JDBC 배치로 모아 배치마다 커밋하고, 진행 상황과 잘못된 행(줄 번호 + 사유)은 작업 상태로 조회합니다.
+ *                  중간에 실패하면 그 전 배치까지는 반영되어 있으므로 파일을 고쳐 다시 올리면 됩니다.
+ *                  컬럼: name, setName, number, rarity, cardCondition, collectionStatus, category, imageUrl, salePrice, quantity
+ *                  (setName 필수, 새 카드는 name 필수, 시세와 이미지 업로드는 개별 등록 화면에서 처리)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Slf4j
+@Service
+public class CardImportJobService {
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * 형식 지정이 없으면 파일 확장자로 판단 (.ndjson, .jsonl이면 NDJSON, 그 외 CSV)
+         */
+        private static Format of(String format, String filename) {
+            if (format != null && !format.isBlank()) {
+                return switch (format.trim().toLowerCase(Locale.ROOT)) {
+                    case "csv" -> CSV;
+                    case "ndjson", "jsonl" -> NDJSON;
+                    default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format + " (csv, ndjson)");
+                };
+            }
+            String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+            return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+        }
+    }
+
+    /**
+     * 작업 상태 조회 결과
+     */
+    public record JobStatus(String jobId, Status status, Format format, String filename,
+                            long rows, long inserted, long updated, long failed, List<String> errors,
+                            String message, LocalDateTime createdAt, LocalDateTime finishedAt) {
+    }
+
+    private static final String INSERT_SQL = """
+            insert into cards (name, set_name, number, rarity, card_condition, collection_status, card_category,
+                               image_url, sale_price, quantity, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int[] INSERT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.BIGINT, Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+    // 비어 있는 값은 기존 값을 유지 (개별 수정 화면과 같은 규칙)
+    private static final String UPDATE_SQL = """
+            update cards set name = coalesce(?, name), rarity = coalesce(?, rarity),
+                             card_condition = coalesce(?, card_condition), collection_status = coalesce(?, collection_status),
+                             card_category = coalesce(?, card_category), image_url = coalesce(?, image_url),
+                             sale_price = coalesce(?, sale_price), quantity = coalesce(?, quantity), updated_at = ?
+            where id = ?
+            """;
+    private static final int[] UPDATE_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.BIGINT, Types.INTEGER, Types.TIMESTAMP, Types.BIGINT
+    };
+
+    private static final EnumLookup<Rarity> RARITIES = EnumLookup.of(Rarity.class, "rarity");
+    private static final EnumLookup<CardCondition> CONDITIONS = EnumLookup.of(CardCondition.class, "cardCondition");
+    private static final EnumLookup<CollectionStatus> STATUSES = EnumLookup.of(CollectionStatus.class, "collectionStatus");
+    private static final EnumLookup<CardCategory> CATEGORIES = EnumLookup.of(CardCategory.class, "category");
+
+    // 읽을 수 없는 행 표시 (값은 사유, 컬럼 이름은 모두 소문자이므로 겹치지 않음)
+    private static final String INVALID_ROW = "#INVALID";
+
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_URL_LENGTH = 1000;
+
+    private static final class Job {
+        private final String id;
+        private final Path tempFile;
+        private final Format format;
+        private final String filename;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final List<String> errors = new CopyOnWriteArrayList<>();
+        private volatile Status status = Status.PENDING;
+        // 진행 상황 (작업 스레드만 쓰고 조회는 어느 스레드에서나)
+        private volatile long rows;
+        private volatile long inserted;
+        private volatile long updated;
+        private volatile long failed;
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, Path tempFile, Format format, String filename) {
+            this.id = id;
+            this.tempFile = tempFile;
+            this.format = format;
+            this.filename = filename;
+        }
+
+        private JobStatus toStatus() {
+            return new JobStatus(id, status, format, filename, rows, inserted, updated, failed, List.copyOf(errors),
+                    message, createdAt, finishedAt);
+        }
+    }
+
+    private final ThreadPoolTaskExecutor executor;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final int maxErrors;
+    private final long retentionMillis;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public CardImportJobService(@Qualifier("cardImportExecutor") ThreadPoolTaskExecutor executor,
+                                ObjectMapper objectMapper,
+                                DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.card-import.batch-size:500}") int batchSize,
+                                @Value("${app.card-import.max-errors:200}") int maxErrors,
+                                @Value("${app.card-import.retention-minutes:60}") long retentionMinutes) {
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxErrors = Math.max(maxErrors, 0);
+        this.retentionMillis = retentionMinutes * 60_000L;
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 받아 두고 대량 등록 작업을 등록
+     * @param format csv, ndjson (없으면 파일 확장자로 판단)
+     * @return 작업 ID
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     * @throws IllegalStateException 대기 중인 작업이 너무 많은 경우
+     */
+    public String submit(MultipartFile file, String format) throws IOException {
+        Format resolved = Format.of(format, file.getOriginalFilename());
+        Path tempFile = Files.createTempFile("card-import-", ".tmp");
+        try {
+            Files.delete(tempFile); // 이름만 확보하고, 디스크에 있는 업로드 파일은 복사 대신 이동되도록 비워 둠
+            file.transferTo(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), tempFile, resolved, file.getOriginalFilename());
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            finish(job, Status.FAILED, "대기 중인 대량 등록 작업이 많습니다.");
+            throw new IllegalStateException("대기 중인 대량 등록 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("[CARD IMPORT] 작업 등록 - Job ID: {}, File: {}, 형식: {}", job.id, job.filename, resolved);
+        return job.id;
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<JobStatus> getStatus(String jobId) {
+        Job job = jobs.get(jobId);
+        return job != null ? Optional.of(job.toStatus()) : Optional.empty();
+    }
+
+    /**
+     * 보관 시간이 지난 끝난 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${app.card-import.cleanup-interval-ms:600000}")
+    public void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private void run(Job job) {
+        job.status = Status.RUNNING;
+        long startedAt = System.currentTimeMillis();
+        try (RowSource source = open(job)) {
+            CardKeyIndex cards = CardKeyIndex.load(jdbcTemplate);
+            Set<String> seen = new HashSet<>();
+            List<Object[]> inserts = new ArrayList<>(batchSize);
+            List<Object[]> updates = new ArrayList<>(batchSize);
+            LocalDateTime now = LocalDateTime.now();
+
+            Map<String, String> row;
+            while ((row = source.next()) != null) {
+                job.rows++;
+                try {
+                    CardRow card = CardRow.from(row);
+                    if (!seen.add(CardKeyIndex.key(card.setName(), card.number()))) {
+                        throw new IllegalArgumentException("파일 안에 같은 (setName, number) 행이 이미 있습니다.");
+                    }
+                    Long cardId = cards.find(card.setName(), card.number());
+                    if (cardId != null) {
+                        updates.add(card.toUpdateArgs(cardId, now));
+                    } else {
+                        inserts.add(card.toInsertArgs(now));
+                    }
+                } catch (IllegalArgumentException e) {
+                    job.failed++;
+                    if (job.errors.size() < maxErrors) {
+                        job.errors.add(source.lineNumber() + "행: " + e.getMessage());
+                    }
+                    continue;
+                }
+                if (inserts.size() + updates.size() >= batchSize) {
+                    flush(job, inserts, updates);
+                }
+            }
+            flush(job, inserts, updates);
+
+            finish(job, Status.DONE, null);
+            log.info("[CARD IMPORT] 작업 완료 - Job ID: {}, 행: {}, 등록: {}, 수정: {}, 실패: {}, 소요: {}ms",
+                    job.id, job.rows, job.inserted, job.updated, job.failed, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[CARD IMPORT] 작업 실패 - Job ID: {}, 처리한 행: {}", job.id, job.rows, e);
+            finish(job, Status.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 모아 둔 INSERT/UPDATE를 한 트랜잭션으로 반영
+     */
+    private void flush(Job job, List<Object[]> inserts, List<Object[]> updates) {
+        if (inserts.isEmpty() && updates.isEmpty()) {
+            return;
+        }
+        transaction.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts, INSERT_TYPES);
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates, UPDATE_TYPES);
+            }
+        });
+        job.inserted += inserts.size();
+        job.updated += updates.size();
+        inserts.clear();
+        updates.clear();
+    }
+
+    private void finish(Job job, Status status, String message) {
+        job.message = message;
+        job.finishedAt = LocalDateTime.now();
+        job.status = status;
+        try {
+            Files.deleteIfExists(job.tempFile);
+        } catch (IOException e) {
+            log.warn("[CARD IMPORT] 임시 파일 삭제 실패 - {}", job.tempFile, e);
+        }
+    }
+
+    /**
+     * 파일 한 행 (컬럼 이름은 소문자, 값은 앞뒤 공백을 뺀 문자열이며 빈 값은 넣지 않음)
+     */
+    private record CardRow(String name, String setName, String number, Rarity rarity, CardCondition cardCondition,
+                           CollectionStatus collectionStatus, CardCategory category, String imageUrl,
+                           Long salePrice, Integer quantity) {
+
+        private static CardRow from(Map<String, String> row) {
+            if (row.containsKey(INVALID_ROW)) {
+                throw new IllegalArgumentException(row.get(INVALID_ROW));
+            }
+            String setName = text(row, "setname", MAX_TEXT_LENGTH);
+            if (setName == null) {
+                throw new IllegalArgumentException("세트 이름(setName)이 없습니다.");
+            }
+            return new CardRow(
+                    text(row, "name", MAX_TEXT_LENGTH),
+                    setName,
+                    text(row, "number", MAX_TEXT_LENGTH),
+                    RARITIES.parse(row.get("rarity")),
+                    CONDITIONS.parse(row.get("cardcondition")),
+                    STATUSES.parse(row.get("collectionstatus")),
+                    CATEGORIES.parse(row.get("category")),
+                    text(row, "imageurl", MAX_URL_LENGTH),
+                    salePrice(row.get("saleprice")),
+                    quantity(row.get("quantity")));
+        }
+
+        private Object[] toInsertArgs(LocalDateTime now) {
+            if (name == null) {
+                throw new IllegalArgumentException("새 카드는 이름(name)이 필요합니다.");
+            }
+            Timestamp timestamp = Timestamp.valueOf(now);
+            return new Object[]{
+                    name, setName, number, nameOf(rarity), nameOf(cardCondition), nameOf(collectionStatus), nameOf(category),
+                    imageUrl, salePrice, quantity != null ? quantity : 1, timestamp, timestamp
+            };
+        }
+
+        private Object[] toUpdateArgs(Long cardId, LocalDateTime now) {
+            return new Object[]{
+                    name, nameOf(rarity), nameOf(cardCondition), nameOf(collectionStatus), nameOf(category),
+                    imageUrl, salePrice, quantity, Timestamp.valueOf(now), cardId
+            };
+        }
+
+        private static String text(Map<String, String> row, String column, int maxLength) {
+            String value = row.get(column);
+            if (value != null && value.length() > maxLength) {
+                throw new IllegalArgumentException(column + "은(는) " + maxLength + "자 이하여야 합니다.");
+            }
+            return value;
+        }
+
+        private static Long salePrice(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                long price = Long.parseLong(value.replace(",", ""));
+                if (price < 0) {
+                    throw new IllegalArgumentException("판매 가격(salePrice)은 0 이상이어야 합니다: " + value);
+                }
+                return price;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("판매 가격(salePrice)은 원 단위 정수여야 합니다: " + value);
+            }
+        }
+
+        private static Integer quantity(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                int quantity = Integer.parseInt(value);
+                if (quantity < 1) {
+                    throw new IllegalArgumentException("수량(quantity)은 1 이상이어야 합니다: " + value);
+                }
+                return quantity;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("수량(quantity) 형식이 올바르지 않습니다: " + value);
+            }
+        }
+
+        private static String nameOf(Enum<?> value) {
+            return value != null ? value.name() : null;
+        }
+    }
+
+    private RowSource open(Job job) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(job.tempFile, StandardCharsets.UTF_8);
+        try {
+            return job.format == Format.NDJSON ? new JsonRows(reader, objectMapper) : new CsvRows(reader);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 파일 형식과 관계없이 한 행씩 읽는 공통 인터페이스
+     */
+    private interface RowSource extends Closeable {
+
+        /**
+         * @return 다음 행 (파일 끝이면 null, 그 행만 읽을 수 없으면 INVALID_ROW에 사유를 넣은 행)
+         * @throws IllegalArgumentException 이후 행을 더 읽을 수 없을 만큼 파일이 깨진 경우 (작업 실패)
+         */
+        Map<String, String> next() throws IOException;
+
+        long lineNumber();
+    }
+
+    private static final class CsvRows implements RowSource {
+
+        private final CsvReader reader;
+        private final String[] columns;
+
+        private CsvRows(BufferedReader reader) throws IOException {
+            this.reader = new CsvReader(reader);
+            String[] header = this.reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            this.columns = new String[header.length];
+            for (int i = 0; i < header.length; i++) {
+                columns[i] = header[i].trim().toLowerCase(Locale.ROOT);
+            }
+            if (!List.of(columns).contains("setname")) {
+                throw new IllegalArgumentException("헤더에 setName 컬럼이 없습니다.");
+            }
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            String[] record = reader.next();
+            if (record == null) {
+                return null;
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < record.length && i < columns.length; i++) {
+                put(row, columns[i], record[i]);
+            }
+            return row;
+        }
+
+        @Override
+        public long lineNumber() {
+            return reader.lineNumber();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class JsonRows implements RowSource {
+
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long lineNumber;
+
+        private JsonRows(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            Map<String, String> row = new HashMap<>();
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (IOException e) {
+                row.put(INVALID_ROW, "JSON 형식이 올바르지 않습니다.");
+                return row;
+            }
+            if (node == null || !node.isObject()) {
+                row.put(INVALID_ROW, "한 줄에 JSON 객체 하나가 있어야 합니다.");
+                return row;
+            }
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (field.getValue().isValueNode() && !field.getValue().isNull()) {
+                    put(row, field.getKey().toLowerCase(Locale.ROOT), field.getValue().asText());
+                }
+            }
+            return row;
+        }
+
+        @Override
+        public long lineNumber() {
+            return lineNumber;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static void put(Map<String, String> row, String column, String value) {
+        String trimmed = value.trim();
+        if (!trimmed.isEmpty()) {
+            row.putIfAbsent(column, trimmed);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.kobe.pokekernle.domain.admin.service;
+
+import com.kobe.pokekernle.global.util.ImageVariants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.admin.service
+ * fileName       : ImageDerivativeGenerator
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 업로드 이미지의 고정 폭 파생 이미지(JPEG, WebP) 생성
+ *                  WebP는 ImageIO에 WebP 인코더(플러그인)가 등록되어 있을 때만 생성합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       현재 설정의 파생 이미지 스펙 조회 추가 (중복 업로드 시 재생성 생략)
+ * 2026. 10. 19.        kobe       원본보다 넓은 폭은 원본 폭 하나로 대신 (스펙/srcset 폭 표기를 실제 폭과 일치)
+ */
+@Slf4j
+@Component
+public class ImageDerivativeGenerator {
+
+    private final List<Integer> widths;
+    private final float jpegQuality;
+    private final boolean webpSupported;
+    private final List<String> formats;
+
+    public ImageDerivativeGenerator(@Value("${app.upload.variants.widths:200,400,800}") List<Integer> widths,
+                                    @Value("${app.upload.variants.jpeg-quality:0.82}") float jpegQuality) {
+        this.widths = widths.stream().filter(width -> width > 0).distinct().sorted().toList();
+        this.jpegQuality = jpegQuality;
+        this.webpSupported = ImageIO.getImageWritersByFormatName(ImageVariants.WEBP).hasNext();
+        this.formats = webpSupported ? List.of(ImageVariants.JPEG, ImageVariants.WEBP) : List.of(ImageVariants.JPEG);
+        log.info("[IMAGE VARIANTS] 파생 이미지 폭: {}, WebP 지원: {}", this.widths, webpSupported);
+    }
+
+    /**
+     * 파생 이미지 한 장
+     */
+    public record Derivative(int width, String format, byte[] bytes) {
+
+        public String contentType() {
+            return ImageVariants.WEBP.equals(format) ? "image/webp" : "image/jpeg";
+        }
+    }
+
+    /**
+     * 생성 결과
+     * @param spec 엔티티에 저장할 스펙 문자열 (ImageVariants 참고)
+     */
+    public record Result(List<Derivative> derivatives, String spec) {
+    }
+
+    /**
+     * 현재 설정으로 이 이미지에 생성되는 파생 이미지의 스펙 (이미지 크기만 읽고 디코딩하지 않음)
+     * @return 읽을 수 없는 이미지이거나 폭 설정이 없으면 null
+     */
+    public String expectedSpec(InputStream original) throws IOException {
+        if (widths.isEmpty()) {
+            return null;
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(original)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return ImageVariants.spec(formats, widthsFor(reader.getWidth(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 원본 이미지로 설정된 폭마다 파생 이미지를 생성
+     * 원본보다 좁은 폭만 축소해서 만들고, 원본 이상인 폭들 대신 원본 폭 그대로의 파생 이미지 하나를 만듭니다.
+     * (확대하지 않으며, 스펙과 srcset의 폭 표기가 실제 이미지 폭과 일치하도록)
+     * @return ImageIO로 읽을 수 없는 형식이면 null
+     */
+    public Result generate(InputStream original) throws IOException {
+        if (widths.isEmpty()) {
+            return null;
+        }
+        BufferedImage source = ImageIO.read(original);
+        if (source == null) {
+            return null;
+        }
+
+        List<Integer> targetWidths = widthsFor(source.getWidth());
+        List<Derivative> derivatives = new ArrayList<>(targetWidths.size() * formats.size());
+        for (int width : targetWidths) {
+            BufferedImage resized = resize(source, width);
+            derivatives.add(new Derivative(width, ImageVariants.JPEG, writeJpeg(resized)));
+            if (webpSupported) {
+                derivatives.add(new Derivative(width, ImageVariants.WEBP, write(resized, ImageVariants.WEBP, null)));
+            }
+        }
+        return new Result(derivatives, ImageVariants.spec(formats, targetWidths));
+    }
+
+    /**
+     * 원본 폭에 맞춘 파생 이미지 폭 (원본보다 좁은 설정 폭 + 원본 이상인 설정 폭이 있으면 원본 폭)
+     * 예: 설정 200,400,800 / 원본 500px -> 200,400,500, 원본 150px -> 150
+     */
+    List<Integer> widthsFor(int sourceWidth) {
+        List<Integer> result = new ArrayList<>(widths.size());
+        for (int width : widths) {
+            if (width < sourceWidth) {
+                result.add(width);
+            } else {
+                result.add(sourceWidth);
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 비율을 유지해 축소 (큰 비율로 줄일 때는 절반씩 나눠 줄여 계단 현상을 줄임)
+     * JPEG에는 투명도가 없으므로 흰 배경의 RGB 이미지로 만듭니다.
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        do {
+            int nextWidth = Math.max(currentWidth / 2, targetWidth);
+            int nextHeight = Math.max(1, (int) Math.round((double) source.getHeight() * nextWidth / source.getWidth()));
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, nextWidth, nextHeight);
+                graphics.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+        } while (currentWidth > targetWidth);
+        return current;
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        return write(image, "jpeg", jpegQuality);
+    }
+
+    private byte[] write(BufferedImage image, String formatName, Float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+        if (!writers.hasNext()) {
+            throw new IOException("이미지 인코더를 찾을 수 없습니다: " + formatName);
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (quality != null && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
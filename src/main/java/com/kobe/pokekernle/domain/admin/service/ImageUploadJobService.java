@@ -0,0 +1,203 @@
+package com.kobe.pokekernle.domain.admin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.admin.service
+ * fileName       : ImageUploadJobService
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 이미지 비동기 업로드 작업
+ *                  요청 스레드에서는 업로드 파일을 임시 파일로 받아 두고 작업 ID만 반환하며,
+ *                  저장소(S3/로컬) 업로드와 파생 이미지 생성은 imageUploadJobExecutor에서 처리합니다.
+ *                  작업 상태는 서버 메모리에만 보관하며 끝난 작업은 보관 시간이 지나면 정리합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       작업 실패 시 업로드된 이미지를 삭제하지 않음 (미사용 이미지 정리에 맡김)
+ */
+@Slf4j
+@Service
+public class ImageUploadJobService {
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    /**
+     * 작업 상태 조회 결과
+     */
+    public record JobStatus(String jobId, Status status, String url, String variants, String message,
+                            LocalDateTime createdAt, LocalDateTime finishedAt) {
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Path tempFile;
+        private final String originalFilename;
+        private final String contentType;
+        private final Consumer<ImageUploadService.StoredImage> onStored;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile Status status = Status.PENDING;
+        private volatile ImageUploadService.StoredImage result;
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, Path tempFile, String originalFilename, String contentType,
+                    Consumer<ImageUploadService.StoredImage> onStored) {
+            this.id = id;
+            this.tempFile = tempFile;
+            this.originalFilename = originalFilename;
+            this.contentType = contentType;
+            this.onStored = onStored;
+        }
+
+        private JobStatus toStatus() {
+            ImageUploadService.StoredImage stored = result;
+            return new JobStatus(id, status, stored != null ? stored.url() : null, stored != null ? stored.variants() : null,
+                    message, createdAt, finishedAt);
+        }
+    }
+
+    private final ImageUploadService imageUploadService;
+    private final ThreadPoolTaskExecutor executor;
+    private final long retentionMillis;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public ImageUploadJobService(ImageUploadService imageUploadService,
+                                 @Qualifier("imageUploadJobExecutor") ThreadPoolTaskExecutor executor,
+                                 @Value("${app.upload.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.imageUploadService = imageUploadService;
+        this.executor = executor;
+        this.retentionMillis = retentionMinutes * 60_000L;
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 받아 두고 백그라운드 업로드 작업을 등록
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 작업을 시작합니다. (onStored가 방금 저장한 엔티티를 읽을 수 있도록)
+     * @param onStored 업로드가 끝나면 작업 스레드에서 호출 (예외를 던지면 작업 실패로 보고 새로 올린 이미지를 삭제)
+     * @return 작업 ID
+     * @throws IllegalStateException 대기 중인 작업이 너무 많은 경우
+     */
+    public String submit(MultipartFile file, Consumer<ImageUploadService.StoredImage> onStored) throws IOException {
+        Path tempFile = Files.createTempFile("upload-job-", ".tmp");
+        try {
+            Files.delete(tempFile); // 이름만 확보하고, 디스크에 있는 업로드 파일은 복사 대신 이동되도록 비워 둠
+            file.transferTo(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), tempFile, file.getOriginalFilename(), file.getContentType(), onStored);
+        jobs.put(job.id, job);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        enqueueOrFail(job);
+                    } else {
+                        finish(job, Status.FAILED, "요청이 처리되지 않아 업로드를 취소했습니다.");
+                    }
+                }
+            });
+        } else {
+            enqueue(job);
+        }
+        log.info("[UPLOAD JOB] 작업 등록 - Job ID: {}, File: {}", job.id, job.originalFilename);
+        return job.id;
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<JobStatus> getStatus(String jobId) {
+        Job job = jobs.get(jobId);
+        return job != null ? Optional.of(job.toStatus()) : Optional.empty();
+    }
+
+    /**
+     * 보관 시간이 지난 끝난 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${app.upload.jobs.cleanup-interval-ms:600000}")
+    public void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        List<String> expired = jobs.values().stream()
+                .filter(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold))
+                .map(job -> job.id)
+                .toList();
+        expired.forEach(jobs::remove);
+        if (!expired.isEmpty()) {
+            log.debug("[UPLOAD JOB] 끝난 작업 {}건 정리", expired.size());
+        }
+    }
+
+    private void enqueue(Job job) {
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            finish(job, Status.FAILED, "대기 중인 업로드 작업이 많습니다.");
+            throw new IllegalStateException("대기 중인 업로드 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 커밋 이후에는 요청에 예외를 돌려줄 수 없으므로 작업 상태에만 실패를 기록
+     */
+    private void enqueueOrFail(Job job) {
+        try {
+            enqueue(job);
+        } catch (IllegalStateException e) {
+            log.warn("[UPLOAD JOB] 작업 대기열이 가득 차 실패 처리 - Job ID: {}", job.id);
+        }
+    }
+
+    private void run(Job job) {
+        job.status = Status.RUNNING;
+        try {
+            ImageUploadService.StoredImage stored = imageUploadService.uploadImage(job.tempFile, job.originalFilename, job.contentType);
+            job.onStored.accept(stored);
+            job.result = stored;
+            finish(job, Status.DONE, null);
+            log.info("[UPLOAD JOB] 작업 완료 - Job ID: {}, URL: {}", job.id, stored.url());
+        } catch (Exception e) {
+            log.error("[UPLOAD JOB] 작업 실패 - Job ID: {}", job.id, e);
+            finish(job, Status.FAILED, e.getMessage());
+        }
+    }
+
+    private void finish(Job job, Status status, String message) {
+        job.message = message;
+        job.finishedAt = LocalDateTime.now();
+        job.status = status;
+        try {
+            Files.deleteIfExists(job.tempFile);
+        } catch (IOException e) {
+            log.warn("[UPLOAD JOB] 임시 파일 삭제 실패 - {}", job.tempFile, e);
+        }
+    }
+}
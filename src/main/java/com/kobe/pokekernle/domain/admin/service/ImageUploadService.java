@@ -1,21 +1,48 @@
 package com.kobe.pokekernle.domain.admin.service;
 
+import com.kobe.pokekernle.global.util.ImageVariants;
+import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Template;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * packageName    : com.kobe.pokekernle.domain.admin.service
@@ -23,6 +50,17 @@ import java.util.UUID;
  * author         : kobe
  * date           : 2025. 12. 22.
  * description    : 이미지 업로드 서비스 (로컬 파일 시스템 저장 또는 S3)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       업로드 시 고정 폭 파생 이미지(JPEG/WebP) 생성 및 저장
+ * 2026. 10. 19.        kobe       여러 이미지 동시 업로드(전부 성공 또는 전부 삭제) 및 이미지 삭제 추가
+ * 2026. 10. 19.        kobe       내용 해시(SHA-256) 기반 키로 저장하고 같은 이미지는 다시 저장하지 않음
+ * 2026. 10. 19.        kobe       임시 파일 업로드 추가 (비동기 업로드 작업용)
+ * 2026. 10. 19.        kobe       저장된 이미지 목록 조회 및 키로 삭제 추가 (미사용 이미지 정리용)
+ * 2026. 10. 19.        kobe       같은 이미지를 다시 사용할 때 S3에서도 수정 시각 갱신 (존재 확인 전에 갱신)
+ * 2026. 10. 19.        kobe       파생 이미지 스펙을 원본 크기 기준으로 확인
+ * 2026. 10. 19.        kobe       업로드 실패 시 이미지를 바로 삭제하지 않음 (다른 요청이 같은 키를 참조할 수 있어 미사용 이미지 정리에 맡김)
  */
 @Slf4j
 @Service
@@ -31,6 +69,16 @@ public class ImageUploadService {
     @Autowired(required = false)
     private S3Template s3Template;
 
+    @Autowired(required = false)
+    private S3Client s3Client;
+
+    @Autowired
+    private ImageDerivativeGenerator derivativeGenerator;
+
+    @Autowired
+    @Qualifier("imageUploadExecutor")
+    private Executor imageUploadExecutor;
+
     @Value("${spring.cloud.aws.s3.bucket:}")
     private String bucketName;
 
@@ -56,51 +104,173 @@ public class ImageUploadService {
         log.info("[IMAGE UPLOAD SERVICE]   cloudFrontDomain: {}", this.cloudFrontDomain);
     }
 
+    /**
+     * 업로드 결과
+     * @param key 저장소 키 (예: images/xxx.jpg)
+     * @param url 원본 이미지 URL
+     * @param variants 파생 이미지 스펙 (ImageVariants 참고, 생성하지 못했으면 null)
+     */
+    public record StoredImage(String key, String url, String variants) {
+    }
+
+    /**
+     * 여러 이미지를 동시에 업로드 (이름 -> 파일, 비어 있는 파일은 건너뜀)
+     * 업로드는 imageUploadExecutor에서 병렬로 진행하며, 하나라도 실패하면 예외를 던집니다.
+     * 이미 올라간 이미지는 삭제하지 않습니다. 내용 해시 키는 같은 이미지를 올린 다른 요청과 공유되므로
+     * 여기서 지우면 그 요청이 저장한 URL이 깨질 수 있고, 참조되지 않는 이미지는 OrphanImageCollector가 정리합니다.
+     * @return 이름 -> 업로드 결과 (요청한 순서 유지)
+     * @throws IOException 하나라도 업로드에 실패한 경우
+     */
+    public Map<String, StoredImage> uploadImages(Map<String, MultipartFile> files) throws IOException {
+        Map<String, CompletableFuture<StoredImage>> futures = new LinkedHashMap<>();
+        files.forEach((name, file) -> {
+            if (file != null && !file.isEmpty()) {
+                futures.put(name, CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return uploadImage(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, imageUploadExecutor));
+            }
+        });
+
+        // 실패가 있어도 나머지가 끝날 때까지 기다린 뒤 응답 (요청이 끝난 뒤에 업로드가 이어지지 않도록)
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .handle((ignored, e) -> null)
+                .join();
+
+        Map<String, StoredImage> stored = new LinkedHashMap<>();
+        Throwable failure = null;
+        for (Map.Entry<String, CompletableFuture<StoredImage>> entry : futures.entrySet()) {
+            try {
+                stored.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof UncheckedIOException io ? io.getCause() : e.getCause();
+                }
+            }
+        }
+
+        if (failure != null) {
+            log.warn("[IMAGE UPLOAD] 일부 이미지 업로드 실패 ({}개는 업로드됨, 미사용 이미지 정리에서 삭제)", stored.size());
+            throw failure instanceof IOException io ? io : new IOException(failure.getMessage(), failure);
+        }
+        return stored;
+    }
+
     /**
      * 이미지 파일을 업로드하고 접근 가능한 URL을 반환합니다.
+     * 내용의 SHA-256을 키로 사용하므로 같은 이미지를 다시 올리면 저장하지 않고 기존 URL을 반환합니다.
+     * 원본 옆에 목록 화면용 고정 폭 파생 이미지(JPEG, 가능하면 WebP)도 함께 저장합니다.
      * @param file 업로드할 파일
-     * @return 접근 가능한 이미지 URL (예: /uploads/images/xxx.jpg)
+     * @return 원본 URL(예: /uploads/images/{sha256}.jpg)과 파생 이미지 스펙
      * @throws IOException 파일 저장 실패 시
      */
-    public String uploadImage(MultipartFile file) throws IOException {
+    public StoredImage uploadImage(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             return null;
         }
 
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-        String fileName = UUID.randomUUID().toString() + "." + extension;
+        // 임시 파일로 받으면서 해시 계산 (파일 전체를 메모리에 올리지 않고, 저장할 때 다시 읽음)
+        Path tempFile = Files.createTempFile("upload-", ".tmp");
+        try {
+            String hash;
+            try (DigestInputStream inputStream = new DigestInputStream(file.getInputStream(), sha256())) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                hash = HexFormat.of().formatHex(inputStream.getMessageDigest().digest());
+            }
+            return storeContent(hash, tempFile, file.getOriginalFilename(), file.getContentType());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 임시 파일로 받아 둔 이미지를 업로드 (비동기 업로드 작업용, 파일 삭제는 호출한 쪽에서 처리)
+     * @see #uploadImage(MultipartFile)
+     */
+    public StoredImage uploadImage(Path file, String originalFilename, String contentType) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return storeContent(HexFormat.of().formatHex(digest.digest()), file, originalFilename, contentType);
+    }
+
+    private StoredImage storeContent(String hash, Path content, String originalFilename, String contentType) throws IOException {
+        // 확장자는 키에 그대로 들어가므로 영문/숫자만 허용
+        String extension = getFileExtension(originalFilename).toLowerCase(Locale.ROOT);
+        if (!extension.matches("[a-z0-9]{1,10}")) {
+            extension = "";
+        }
+        String key = "images/" + hash + (extension.isEmpty() ? "" : "." + extension);
+
+        // 존재 확인과 수정 시각 갱신을 한 번에 (확인한 뒤 갱신하기 전에 미사용 이미지 정리가 지우는 틈을 없앰)
+        boolean created = !touch(key);
+        if (created) {
+            try (InputStream inputStream = Files.newInputStream(content)) {
+                store(key, inputStream, contentType);
+            }
+        } else {
+            log.info("[IMAGE UPLOAD] 같은 이미지가 이미 있어 저장 생략 - {}", key);
+        }
 
+        String variants = storeVariants(key, content, created);
+        return new StoredImage(key, publicUrl(key), variants);
+    }
+
+    /**
+     * 파생 이미지 저장 (실패해도 원본만으로 동작하므로 업로드를 실패시키지 않음)
+     * 이미 있던 이미지면 파생 이미지가 모두 있는지만 확인하고 새로 만들지 않습니다.
+     * @return 파생 이미지 스펙 (만들지 못했으면 null)
+     */
+    private String storeVariants(String key, Path original, boolean created) {
+        try {
+            String expected;
+            try (InputStream inputStream = Files.newInputStream(original)) {
+                expected = derivativeGenerator.expectedSpec(inputStream);
+            }
+            if (!created && expected != null && touchAll(ImageVariants.variantUrls(key, expected))) {
+                return expected;
+            }
+            ImageDerivativeGenerator.Result result;
+            try (InputStream inputStream = Files.newInputStream(original)) {
+                result = derivativeGenerator.generate(inputStream);
+            }
+            if (result == null) {
+                return null;
+            }
+            for (ImageDerivativeGenerator.Derivative derivative : result.derivatives()) {
+                String variantKey = ImageVariants.variantUrl(key, derivative.width(), derivative.format());
+                store(variantKey, new ByteArrayInputStream(derivative.bytes()), derivative.contentType());
+            }
+            log.info("[IMAGE VARIANTS] 파생 이미지 저장 완료 - {}, {}", key, result.spec());
+            return result.spec();
+        } catch (Exception e) {
+            log.warn("[IMAGE VARIANTS] 파생 이미지 생성 실패, 원본만 사용 - {}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 키(images/xxx.jpg) 위치에 저장
+     */
+    private void store(String key, InputStream inputStream, String contentType) throws IOException {
         if (useS3 && s3Template != null) {
             // S3로 업로드 (운영 환경)
-            String s3Key = "images/" + fileName;
-            log.info("[S3 UPLOAD] 업로드 시작 - Bucket: {}, Key: {}", bucketName, s3Key);
-            
+            log.info("[S3 UPLOAD] 업로드 시작 - Bucket: {}, Key: {}", bucketName, key);
+
             try {
-                s3Template.upload(bucketName, s3Key, file.getInputStream());
-                log.info("[S3 UPLOAD] 업로드 성공 - Bucket: {}, Key: {}", bucketName, s3Key);
+                ObjectMetadata metadata = ObjectMetadata.builder()
+                        .contentType(contentType != null ? contentType : "application/octet-stream")
+                        .build();
+                s3Template.upload(bucketName, key, inputStream, metadata);
+                log.info("[S3 UPLOAD] 업로드 성공 - Bucket: {}, Key: {}", bucketName, key);
             } catch (Exception e) {
-                log.error("[S3 UPLOAD] 업로드 실패 - Bucket: {}, Key: {}", bucketName, s3Key, e);
+                log.error("[S3 UPLOAD] 업로드 실패 - Bucket: {}, Key: {}", bucketName, key, e);
                 throw new IOException("S3 업로드 실패: " + e.getMessage(), e);
             }
-            
-            // S3 Public URL 생성
-            // CloudFront 도메인이 설정되어 있으면 사용, 없으면 S3 직접 Public URL 사용
-            String fileUrl;
-            if (cloudFrontDomain != null && !cloudFrontDomain.isEmpty() && !cloudFrontDomain.isBlank()) {
-                // CloudFront를 통한 URL (권장)
-                fileUrl = "https://" + cloudFrontDomain + "/" + s3Key;
-                log.info("[S3 UPLOAD] CloudFront URL 사용: {}", fileUrl);
-            } else {
-                // S3 직접 Public URL (버킷이 public이어야 함)
-                // 형식: https://{bucket-name}.s3.{region}.amazonaws.com/{key}
-                fileUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, s3Key);
-                log.info("[S3 UPLOAD] S3 직접 URL 사용: {}", fileUrl);
-            }
-            
-            log.info("[S3 UPLOAD] 최종 URL: {}", fileUrl);
-            log.info("[S3 UPLOAD] Bucket: {}, Key: {}, Region: {}", bucketName, s3Key, region);
-            return fileUrl;
         } else {
             // 로컬 파일 시스템에 저장 (개발 환경)
             Path uploadDir = Paths.get("uploads/images");
@@ -108,13 +278,169 @@ public class ImageUploadService {
                 Files.createDirectories(uploadDir);
             }
 
-            Path filePath = uploadDir.resolve(fileName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            // 같은 키를 동시에 저장하거나 읽는 중에도 완성된 파일만 보이도록 임시 파일에 쓴 뒤 이동
+            Path filePath = localPath(key);
+            Path partFile = Files.createTempFile(uploadDir, ".upload-", ".part");
+            try {
+                Files.copy(inputStream, partFile, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(partFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(partFile);
+            }
+            log.info("[LOCAL UPLOAD] 완료: {}", publicUrl(key));
+        }
+    }
 
-            String fileUrl = "/uploads/images/" + fileName;
-            log.info("[LOCAL UPLOAD] 완료: {}", fileUrl);
-            return fileUrl;
+    private boolean exists(String key) {
+        if (useS3 && s3Template != null) {
+            return s3Template.objectExists(bucketName, key);
+        }
+        return Files.exists(localPath(key));
+    }
+
+    /**
+     * 이미 있는 이미지의 수정 시각을 지금으로 갱신
+     * 다시 사용되는 이미지가 미사용 이미지 정리(유예 기간 기준) 대상이 되지 않도록 합니다.
+     * S3는 수정 시각을 직접 바꿀 수 없으므로 같은 키로 자기 자신을 복사합니다. (메타데이터 유지)
+     * @return 이미지가 없으면 false
+     */
+    private boolean touch(String key) throws IOException {
+        if (useS3 && s3Template != null) {
+            if (s3Client == null) {
+                return exists(key);
+            }
+            try {
+                HeadObjectResponse head = s3Client.headObject(builder -> builder.bucket(bucketName).key(key));
+                s3Client.copyObject(builder -> builder
+                        .sourceBucket(bucketName).sourceKey(key)
+                        .destinationBucket(bucketName).destinationKey(key)
+                        .metadataDirective(MetadataDirective.REPLACE) // 같은 키 복사는 메타데이터를 바꿔야 허용됨
+                        .contentType(head.contentType())
+                        .cacheControl(head.cacheControl())
+                        .metadata(head.metadata()));
+                return true;
+            } catch (S3Exception e) {
+                if (e.statusCode() == 404) {
+                    return false;
+                }
+                throw new IOException("S3 이미지 수정 시각 갱신 실패: " + key, e);
+            }
+        }
+        try {
+            Files.setLastModifiedTime(localPath(key), FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private boolean touchAll(List<String> keys) throws IOException {
+        for (String key : keys) {
+            if (!touch(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 키의 접근 가능한 URL
+     * S3는 CloudFront 도메인이 설정되어 있으면 사용, 없으면 S3 직접 Public URL 사용
+     */
+    private String publicUrl(String key) {
+        if (useS3 && s3Template != null) {
+            if (cloudFrontDomain != null && !cloudFrontDomain.isBlank()) {
+                // CloudFront를 통한 URL (권장)
+                return "https://" + cloudFrontDomain + "/" + key;
+            }
+            // S3 직접 Public URL (버킷이 public이어야 함)
+            // 형식: https://{bucket-name}.s3.{region}.amazonaws.com/{key}
+            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
+        }
+        return "/uploads/" + key;
+    }
+
+    private Path localPath(String key) {
+        return Paths.get("uploads/images").resolve(key.substring(key.lastIndexOf('/') + 1));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 저장소의 이미지 한 개 (목록 조회용)
+     */
+    public record StoredObject(String key, Instant lastModified) {
+    }
+
+    /**
+     * 저장된 모든 이미지(원본과 파생 이미지)를 하나씩 전달 (전체 목록을 메모리에 올리지 않음)
+     */
+    public void forEachStoredImage(Consumer<StoredObject> consumer) throws IOException {
+        if (useS3 && s3Client != null) {
+            ListObjectsV2Request request = ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix("images/")
+                    .build();
+            s3Client.listObjectsV2Paginator(request).contents()
+                    .forEach(object -> consumer.accept(new StoredObject(object.key(), object.lastModified())));
+            return;
+        }
+        Path uploadDir = Paths.get("uploads/images");
+        if (!Files.isDirectory(uploadDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file)) {
+                    consumer.accept(new StoredObject("images/" + file.getFileName(),
+                            Files.getLastModifiedTime(file).toInstant()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 이미지의 현재 수정 시각 (미사용 이미지 정리에서 삭제 직전 다시 확인하는 용도)
+     * @return 이미지가 없으면 null
+     */
+    public Instant lastModified(String key) throws IOException {
+        if (useS3 && s3Client != null) {
+            try {
+                return s3Client.headObject(builder -> builder.bucket(bucketName).key(key)).lastModified();
+            } catch (S3Exception e) {
+                if (e.statusCode() == 404) {
+                    return null;
+                }
+                throw new IOException("S3 이미지 조회 실패: " + key, e);
+            }
+        }
+        try {
+            return Files.getLastModifiedTime(localPath(key)).toInstant();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 키로 이미지 삭제 (미사용 이미지 정리용)
+     */
+    public void deleteImage(String key) throws IOException {
+        delete(key);
+    }
+
+    private void delete(String key) throws IOException {
+        if (useS3 && s3Template != null) {
+            s3Template.deleteObject(bucketName, key);
+        } else {
+            Files.deleteIfExists(localPath(key));
         }
+        log.info("[IMAGE UPLOAD] 삭제 완료: {}", key);
     }
 
     /**
@@ -0,0 +1,211 @@
+package com.kobe.pokekernle.domain.admin.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.admin.service
+ * fileName       : LocalImageFileCache
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 로컬 저장 이미지의 열린 파일 핸들 캐시 (크기, 수정 시각, ETag 포함)
+ *                  자주 요청되는 이미지는 요청마다 파일을 열고 stat 하지 않고 캐시된 FileChannel로 바로 전송합니다.
+ *                  캐시에서 내려간 핸들은 사용 중인 요청이 모두 끝난 뒤에 닫습니다. (참조 카운트)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Slf4j
+@Component
+public class LocalImageFileCache {
+
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]{0,200}");
+    private static final Pattern SHA256_NAME = Pattern.compile("[0-9a-f]{64}(_w\\d+)?(\\.[a-z0-9]+)?");
+
+    private final Path uploadDir;
+    private final Cache<String, OpenFile> openFiles;
+
+    public LocalImageFileCache(@Value("${app.upload.dir:uploads/images}") String uploadDir,
+                               @Value("${app.upload.serve.max-open-files:256}") long maxOpenFiles,
+                               @Value("${app.upload.serve.open-file-ttl-seconds:60}") long openFileTtlSeconds) {
+        this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.openFiles = Caffeine.newBuilder()
+                .maximumSize(maxOpenFiles)
+                .expireAfterWrite(Duration.ofSeconds(openFileTtlSeconds)) // 교체/삭제된 파일을 너무 오래 붙잡지 않도록
+                .removalListener((String fileName, OpenFile file, RemovalCause cause) -> {
+                    if (file != null) {
+                        file.release(); // 캐시가 가진 참조 반납
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 열린 이미지 파일 (캐시와 요청이 함께 사용하므로 사용 후 release() 필요)
+     */
+    public static final class OpenFile {
+        private final Path path;
+        private final FileChannel channel;
+        private final long size;
+        private final long lastModified;
+        private final String etag;
+        private final AtomicInteger references = new AtomicInteger(1); // 캐시가 가진 참조 1
+
+        private OpenFile(Path path, FileChannel channel, long size, long lastModified, String etag) {
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = etag;
+        }
+
+        public Path path() {
+            return path;
+        }
+
+        /**
+         * 위치 지정 전송(transferTo(position, ...))만 사용하므로 여러 요청이 동시에 써도 됨
+         */
+        public FileChannel channel() {
+            return channel;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        public long lastModified() {
+            return lastModified;
+        }
+
+        /**
+         * 내용 해시 기반 강한 ETag (따옴표 포함)
+         */
+        public String etag() {
+            return etag;
+        }
+
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current == 0) {
+                    return false; // 이미 닫힘
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        public void release() {
+            if (references.decrementAndGet() == 0) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.debug("[IMAGE SERVE] 파일 닫기 실패 - {}", path, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 이미지 파일 열기 (캐시에 있으면 캐시된 핸들 사용)
+     * @return 이름이 잘못되었거나 파일이 없으면 null
+     */
+    public OpenFile acquire(String fileName) throws IOException {
+        if (fileName == null || !FILE_NAME.matcher(fileName).matches()) {
+            return null;
+        }
+        while (true) {
+            OpenFile file = openFiles.getIfPresent(fileName);
+            if (file == null) {
+                OpenFile opened = open(fileName);
+                if (opened == null) {
+                    return null;
+                }
+                file = openFiles.asMap().putIfAbsent(fileName, opened);
+                if (file != null) {
+                    opened.release(); // 다른 요청이 먼저 열어서 캐시에 넣음
+                } else {
+                    file = opened;
+                }
+            }
+            if (file.retain()) {
+                return file;
+            }
+            // 캐시에서 내려가 방금 닫힌 핸들이면 다시 열기
+            openFiles.asMap().remove(fileName, file);
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        openFiles.invalidateAll();
+        openFiles.cleanUp();
+    }
+
+    private OpenFile open(String fileName) throws IOException {
+        Path path = uploadDir.resolve(fileName).normalize();
+        if (!path.startsWith(uploadDir) || !Files.isRegularFile(path)) {
+            return null;
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            return new OpenFile(path, channel, size, lastModified, "\"" + contentHash(fileName, channel, size) + "\"");
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 내용 주소 이름(sha256.jpg, sha256_w400.webp)은 이름에 해시가 들어 있으므로 이름을 그대로 쓰고,
+     * 그 외(이전 UUID 이름)는 한 번 읽어서 계산 (파생 이미지는 원본과 내용이 다르므로 접미사까지 포함)
+     */
+    private static String contentHash(String fileName, FileChannel channel, long size) throws IOException {
+        if (SHA256_NAME.matcher(fileName).matches()) {
+            return fileName;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long position = 0;
+        while (position < size) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+            position += read;
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
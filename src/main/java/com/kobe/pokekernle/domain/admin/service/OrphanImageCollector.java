@@ -0,0 +1,224 @@
+package com.kobe.pokekernle.domain.admin.service;
+
+import com.kobe.pokekernle.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.admin.service
+ * fileName       : OrphanImageCollector
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 어디에서도 참조하지 않는 업로드 이미지 정리 (mark & sweep)
+ *                  1) cards, one_piece_box, user_cards의 이미지 URL을 흘려 읽으며 파일 이름(확장자 제외)을 블룸 필터에 표시
+ *                  2) 저장소 목록을 흘려 읽으며 유예 기간이 지났고 블룸 필터에 없는(확실히 참조되지 않는) 이미지만 후보로 모음
+ *                  3) URL을 한 번 더 읽어 후보와 정확히 비교한 뒤(표시 이후 새로 참조된 이미지 제외) 남은 후보를 삭제
+ *                     삭제 직전에 수정 시각을 다시 확인해서, 목록을 읽은 뒤 다시 업로드된(수정 시각이 갱신된) 이미지는 남김
+ *                  파생 이미지(xxx_w400.jpg)는 원본(xxx)이 참조되는 동안 함께 유지됩니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       삭제 직전 수정 시각 재확인 (정리 중에 같은 이미지가 다시 업로드된 경우 보호)
+ */
+@Slf4j
+@Service
+public class OrphanImageCollector {
+
+    private static final String[] URL_QUERIES = {
+            "select image_url, uploaded_image_url from cards",
+            "select front_image_url, back_image_url, left_image_url, right_image_url, top_image_url, bottom_image_url from one_piece_box",
+            "select user_image_url from user_cards"
+    };
+    private static final String COUNT_QUERY = """
+            select (select count(*) from cards) * 2
+                 + (select count(*) from one_piece_box) * 6
+                 + (select count(*) from user_cards)
+            """;
+
+    private static final Pattern VARIANT_NAME = Pattern.compile("(.+)_w\\d+\\.[a-z0-9]+");
+
+    private final ImageUploadService imageUploadService;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final Duration gracePeriod;
+    private final double falsePositiveRate;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public OrphanImageCollector(ImageUploadService imageUploadService,
+                                DataSource dataSource,
+                                @Value("${app.upload.gc.enabled:true}") boolean enabled,
+                                @Value("${app.upload.gc.dry-run:false}") boolean dryRun,
+                                @Value("${app.upload.gc.grace-hours:24}") long graceHours,
+                                @Value("${app.upload.gc.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${app.upload.gc.fetch-size:1000}") int fetchSize) {
+        this.imageUploadService = imageUploadService;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.gracePeriod = Duration.ofHours(graceHours);
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 정리 결과
+     */
+    public record Result(long scanned, long candidates, long deleted, long bloomBytes) {
+    }
+
+    @Scheduled(cron = "${app.upload.gc.cron:0 30 4 * * *}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            collect();
+        } catch (Exception e) {
+            log.error("[IMAGE GC] 미사용 이미지 정리 실패", e);
+        }
+    }
+
+    /**
+     * 미사용 이미지 정리 실행
+     * @return 이미 실행 중이면 null
+     */
+    public Result collect() throws IOException {
+        if (!runLock.tryLock()) {
+            return null;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            // 유예 기간 기준 시각은 표시 전에 정함 (표시 중에 올라온 이미지는 후보가 되지 않음)
+            Instant threshold = Instant.now().minus(gracePeriod);
+
+            // 1. mark: 참조 중인 이미지 이름을 블룸 필터에 표시
+            Long expected = jdbcTemplate.queryForObject(COUNT_QUERY, Long.class);
+            BloomFilter referenced = new BloomFilter(expected != null ? expected : 0, falsePositiveRate);
+            forEachReferencedName(referenced::add);
+
+            // 2. 블룸 필터에 없는(확실히 참조되지 않는) 오래된 이미지를 후보로 모음 (이름 -> 키 목록)
+            Map<String, List<String>> candidates = new HashMap<>();
+            long[] scanned = {0};
+            imageUploadService.forEachStoredImage(object -> {
+                scanned[0]++;
+                if (object.lastModified() == null || !object.lastModified().isBefore(threshold)) {
+                    return;
+                }
+                List<String> names = namesOf(object.key());
+                for (String name : names) {
+                    if (referenced.mightContain(name)) {
+                        return;
+                    }
+                }
+                names.forEach(name -> candidates.computeIfAbsent(name, key -> new ArrayList<>()).add(object.key()));
+            });
+
+            // 3. 후보와 참조 이름을 정확히 비교해서 그 사이 참조된 이미지는 제외
+            if (!candidates.isEmpty()) {
+                forEachReferencedName(name -> {
+                    List<String> keys = candidates.remove(name);
+                    if (keys != null) {
+                        // 같은 키가 다른 이름(원본/파생 이름)으로도 후보에 있을 수 있으므로 함께 제외
+                        candidates.values().forEach(list -> list.removeAll(keys));
+                    }
+                });
+            }
+
+            List<String> orphanKeys = candidates.values().stream()
+                    .flatMap(List::stream)
+                    .distinct()
+                    .toList();
+            long deleted = 0;
+            for (String key : orphanKeys) {
+                if (dryRun) {
+                    log.info("[IMAGE GC] (dry-run) 삭제 대상: {}", key);
+                    continue;
+                }
+                try {
+                    // 목록을 읽은 뒤 같은 이미지가 다시 업로드되었으면(수정 시각 갱신) 곧 참조될 수 있으므로 남김
+                    Instant lastModified = imageUploadService.lastModified(key);
+                    if (lastModified == null || !lastModified.isBefore(threshold)) {
+                        continue;
+                    }
+                    imageUploadService.deleteImage(key);
+                    deleted++;
+                } catch (Exception e) {
+                    log.warn("[IMAGE GC] 삭제 실패 - {}", key, e);
+                }
+            }
+
+            Result result = new Result(scanned[0], orphanKeys.size(), deleted, referenced.sizeInBytes());
+            log.info("[IMAGE GC] 미사용 이미지 정리 완료 - 저장소 {}개 중 후보 {}개, 삭제 {}개, 필터 {}KB, 소요: {}ms",
+                    result.scanned(), result.candidates(), result.deleted(), result.bloomBytes() / 1024,
+                    System.currentTimeMillis() - startedAt);
+            return result;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * 참조 중인 모든 이미지 URL을 흘려 읽으며 이름(경로와 확장자 제외)을 전달
+     */
+    private void forEachReferencedName(Consumer<String> consumer) {
+        for (String query : URL_QUERIES) {
+            jdbcTemplate.query(query, (RowCallbackHandler) rs -> {
+                int columns = rs.getMetaData().getColumnCount();
+                for (int i = 1; i <= columns; i++) {
+                    String name = baseName(rs.getString(i));
+                    if (name != null) {
+                        consumer.accept(name);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 저장소 키가 참조될 수 있는 이름들 (파생 이미지면 원본 이름도 포함)
+     */
+    private static List<String> namesOf(String key) {
+        String fileName = key.substring(key.lastIndexOf('/') + 1);
+        Matcher variant = VARIANT_NAME.matcher(fileName);
+        String name = baseName(fileName);
+        return variant.matches() ? List.of(name, variant.group(1)) : List.of(name);
+    }
+
+    /**
+     * URL 또는 키의 파일 이름에서 확장자를 뺀 부분 (예: https://cdn/images/abc.jpg?v=1 -> abc)
+     */
+    private static String baseName(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        int end = url.length();
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int slash = url.lastIndexOf('/', end - 1);
+        String fileName = url.substring(slash + 1, end);
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+}
@@ -3,6 +3,7 @@ package com.kobe.pokekernle.domain.card.entity;
 import com.kobe.pokekernle.domain.collection.entity.CardCondition;
 import com.kobe.pokekernle.domain.collection.entity.CollectionStatus;
 import com.kobe.pokekernle.global.entity.BaseTimeEntity;
+import com.kobe.pokekernle.global.util.ImageVariants;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,6 +20,8 @@ import lombok.NoArgsConstructor;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 20.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       한정 판매(드롭) 모드 추가
+ * 2026. 10. 19.        kobe       업로드 이미지 파생 이미지(srcset) 정보 추가
  */
 @Entity
 @Getter
@@ -59,6 +62,9 @@ public class Card extends BaseTimeEntity {
     @Column(length = 1000)
     private String uploadedImageUrl; // 사용자가 업로드한 이미지 URL (우선 사용)
 
+    @Column(length = 100)
+    private String uploadedImageVariants; // 업로드 이미지의 파생 이미지 스펙 (예: jpg,webp:200,400,800)
+
     @Column(precision = 12, scale = 0)
     private Long salePrice; // 희망 판매 가격 (원화, KRW)
 
@@ -69,8 +75,10 @@ public class Card extends BaseTimeEntity {
     @Column(name = "card_category", length = 50)
     private CardCategory cardCategory;
 
+    private Boolean dropMode; // 한정 판매(드롭) 모드 - 켜져 있으면 바로 구매 주문이 카드별 대기열로 처리됨
+
     @Builder
-    public Card(String name, String setName, String number, Rarity rarity, CardCondition cardCondition, CollectionStatus collectionStatus, String imageUrl, String uploadedImageUrl, Long salePrice, Integer quantity, CardCategory cardCategory) {
+    public Card(String name, String setName, String number, Rarity rarity, CardCondition cardCondition, CollectionStatus collectionStatus, String imageUrl, String uploadedImageUrl, String uploadedImageVariants, Long salePrice, Integer quantity, CardCategory cardCategory) {
         this.name = name;
         this.setName = setName;
         this.number = number;
@@ -79,6 +87,7 @@ public class Card extends BaseTimeEntity {
         this.collectionStatus = collectionStatus;
         this.imageUrl = imageUrl;
         this.uploadedImageUrl = uploadedImageUrl;
+        this.uploadedImageVariants = uploadedImageVariants;
         this.salePrice = salePrice;
         this.quantity = quantity != null ? quantity : 1; // 기본값 1
         this.cardCategory = cardCategory;
@@ -99,11 +108,45 @@ public class Card extends BaseTimeEntity {
         return "/images/pokemon-card.png";
     }
 
+    /**
+     * 목록 화면용 srcset (업로드 이미지를 표시하고 해당 형식의 파생 이미지가 있을 때만)
+     * @param format ImageVariants.JPEG 또는 ImageVariants.WEBP
+     */
+    public String getDisplayImageSrcset(String format) {
+        if (uploadedImageUrl == null || uploadedImageUrl.isBlank()) {
+            return null;
+        }
+        return ImageVariants.srcset(uploadedImageUrl, uploadedImageVariants, format);
+    }
+
+    /**
+     * 한정 판매(드롭) 모드 여부
+     */
+    public boolean isDropMode() {
+        return Boolean.TRUE.equals(dropMode);
+    }
+
+    /**
+     * 한정 판매(드롭) 모드 전환
+     */
+    public void changeDropMode(boolean dropMode) {
+        this.dropMode = dropMode;
+    }
+
     /**
      * 업로드된 이미지 URL 설정
      */
     public void setUploadedImageUrl(String uploadedImageUrl) {
         this.uploadedImageUrl = uploadedImageUrl;
+        this.uploadedImageVariants = null;
+    }
+
+    /**
+     * 업로드된 이미지 교체 (파생 이미지 스펙 포함)
+     */
+    public void changeUploadedImage(String uploadedImageUrl, String uploadedImageVariants) {
+        this.uploadedImageUrl = uploadedImageUrl;
+        this.uploadedImageVariants = uploadedImageVariants;
     }
 
     /**
@@ -1,8 +1,13 @@
 package com.kobe.pokekernle.domain.card.repository;
 
 import com.kobe.pokekernle.domain.card.entity.Card;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,7 +20,18 @@ import java.util.Optional;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 21.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       드롭 모드 카드 조회, 재고 차감용 비관적 락 조회 추가
  */
 public interface CardRepository extends JpaRepository<Card, Long> {
     Optional<Card> findBySetName(String setName);
+
+    @Query("select c.id from Card c where c.dropMode = true")
+    List<Long> findDropModeIds();
+
+    /**
+     * 재고 차감용 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Card c where c.id = :id")
+    Optional<Card> findByIdForUpdate(@Param("id") Long id);
 }
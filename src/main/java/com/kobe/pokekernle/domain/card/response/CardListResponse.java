@@ -4,6 +4,7 @@ import com.kobe.pokekernle.domain.card.entity.Card;
 import com.kobe.pokekernle.domain.card.entity.MarketPrice;
 import com.kobe.pokekernle.domain.card.entity.PriceHistory;
 import com.kobe.pokekernle.domain.card.service.CurrencyConverterService;
+import com.kobe.pokekernle.global.util.ImageVariants;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -20,6 +21,7 @@ import java.util.List;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 22.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       파생 이미지 srcset(JPEG/WebP) 추가
  */
 // Java 17 Record 사용 (데이터 전달용으로 간결함)
 public record CardListResponse(
@@ -36,7 +38,9 @@ public record CardListResponse(
         Long salePrice, // 희망 판매 가격 (원화, KRW)
         String category, // 카테고리 (pokemon-single, pokemon-box, onepiece-single, onepiece-box)
         LocalDateTime createdAt, // 카드 추가 날짜
-        BigDecimal priceChange // 시세 변동률 (절댓값, 정렬용)
+        BigDecimal priceChange, // 시세 변동률 (절댓값, 정렬용)
+        String imageSrcset, // 업로드 이미지의 JPEG 파생 이미지 srcset (없으면 null)
+        String imageWebpSrcset // 업로드 이미지의 WebP 파생 이미지 srcset (없으면 null)
 ) {
     public static CardListResponse from(Card card, MarketPrice marketPrice, CurrencyConverterService currencyConverter) {
         return from(card, marketPrice, null, currencyConverter);
@@ -89,7 +93,9 @@ public record CardListResponse(
                 card.getSalePrice(), // 희망 판매 가격 (원화)
                 card.getCardCategory() != null ? card.getCardCategory().name() : null, // 카테고리 (Enum -> String)
                 card.getCreatedAt(), // 카드 추가 날짜
-                priceChange // 시세 변동률
+                priceChange, // 시세 변동률
+                card.getDisplayImageSrcset(ImageVariants.JPEG),
+                card.getDisplayImageSrcset(ImageVariants.WEBP)
         );
     }
 
@@ -120,7 +126,9 @@ public record CardListResponse(
                 box.getSalePrice(),
                 box.getCardCategory() != null ? box.getCardCategory().name() : null,
                 box.getCreatedAt(),
-                BigDecimal.ZERO // 시세 변동률은 박스에 없음
+                BigDecimal.ZERO, // 시세 변동률은 박스에 없음
+                box.getImageSrcset("front", ImageVariants.JPEG),
+                box.getImageSrcset("front", ImageVariants.WEBP)
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.kobe.pokekernle.domain.card.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.card.service
+ * fileName       : CardKeyIndex
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : (세트 이름, 카드 번호) -> 카드 ID 메모리 색인 (대량 가져오기에서 행마다 카드를 조회하지 않기 위해 사용)
+ *                  cards를 한 번 흘려 읽어 만들고, 같은 키의 카드가 여러 장이면 ID가 가장 작은 카드를 사용합니다.
+ *                  세트 이름과 카드 번호는 앞뒤 공백과 대소문자를 무시하고 비교합니다.
+ *                  스레드 안전하지 않습니다. (가져오기 한 번에서만 사용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class CardKeyIndex {
+
+    private static final String QUERY = "select id, set_name, number from cards order by id";
+
+    private final Map<String, Long> ids;
+
+    private CardKeyIndex(Map<String, Long> ids) {
+        this.ids = ids;
+    }
+
+    public static CardKeyIndex load(JdbcTemplate jdbcTemplate) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(QUERY, (RowCallbackHandler) rs ->
+                ids.putIfAbsent(key(rs.getString(2), rs.getString(3)), rs.getLong(1)));
+        return new CardKeyIndex(ids);
+    }
+
+    /**
+     * @return 없으면 null
+     */
+    public Long find(String setName, String number) {
+        return ids.get(key(setName, number));
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * 비교용 키 (같은 카드면 같은 값)
+     */
+    public static String key(String setName, String number) {
+        String set = setName != null ? setName.trim().toLowerCase(Locale.ROOT) : "";
+        String no = number != null ? number.trim().toLowerCase(Locale.ROOT) : "";
+        return set + '\u0000' + no;
+    }
+}
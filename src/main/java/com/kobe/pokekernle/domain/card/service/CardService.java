@@ -32,6 +32,7 @@ import java.util.stream.Collectors;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 22.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       업로드 이미지 교체 추가 (비동기 업로드 작업용)
  */
 @Service
 @RequiredArgsConstructor
@@ -106,4 +107,14 @@ public class CardService {
 
         return result;
     }
+
+    /**
+     * 업로드 이미지 교체 (비동기 업로드 작업 완료 시)
+     */
+    @Transactional
+    public void changeUploadedImage(Long cardId, String uploadedImageUrl, String uploadedImageVariants) {
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카드입니다. ID=" + cardId));
+        card.changeUploadedImage(uploadedImageUrl, uploadedImageVariants);
+    }
 }
@@ -0,0 +1,340 @@
+package com.kobe.pokekernle.domain.card.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.card.service
+ * fileName       : SitemapService
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 사이트맵 파일 생성
+ *                  카탈로그 버전(카드/원피스 박스의 개수와 최종 수정 시각)이 바뀐 경우에만 백그라운드에서 다시 생성합니다.
+ *                  URL 50,000개 단위로 gzip 분할 파일(sitemap-N.xml.gz)을 만들고 사이트맵 인덱스(sitemap.xml)로 묶으며,
+ *                  크롤러 요청은 디스크의 파일만 읽으므로 DB를 조회하지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성 (SeoController의 요청마다 생성하던 사이트맵 대체)
+ */
+@Slf4j
+@Service
+public class SitemapService {
+
+    public static final String INDEX_FILE = "sitemap.xml";
+
+    private static final String CARD_VERSION_QUERY = "select count(c), max(c.updatedAt) from Card c";
+    private static final String BOX_VERSION_QUERY = "select count(b), max(b.updatedAt) from OnePieceBox b";
+    private static final String CARD_QUERY = "select c.id, c.updatedAt from Card c order by c.id";
+    private static final String BOX_QUERY = "select b.id, b.updatedAt from OnePieceBox b order by b.id";
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+    private static final String NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path baseDir;
+    private final String siteUrl;
+    private final int maxUrlsPerShard;
+    private final int fetchSize;
+
+    private final ReentrantLock generateLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public SitemapService(PlatformTransactionManager transactionManager,
+                          @Value("${app.sitemap.dir:sitemap}") String dir,
+                          @Value("${app.site.url:http://localhost:8080}") String siteUrl,
+                          @Value("${app.sitemap.max-urls-per-shard:50000}") int maxUrlsPerShard,
+                          @Value("${app.sitemap.fetch-size:1000}") int fetchSize) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.baseDir = Paths.get(dir).toAbsolutePath();
+        this.siteUrl = siteUrl;
+        this.maxUrlsPerShard = Math.min(Math.max(maxUrlsPerShard, 1), 50_000); // 사이트맵 규격상 파일당 최대 50,000개
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 카탈로그 버전 (개수가 바뀌면 추가/삭제, 최종 수정 시각이 바뀌면 추가/수정)
+     */
+    public record CatalogVersion(long cardCount, LocalDateTime cardUpdatedAt, long boxCount, LocalDateTime boxUpdatedAt) {
+
+        private LocalDateTime lastModified() {
+            if (cardUpdatedAt == null) {
+                return boxUpdatedAt;
+            }
+            return boxUpdatedAt == null || cardUpdatedAt.isAfter(boxUpdatedAt) ? cardUpdatedAt : boxUpdatedAt;
+        }
+    }
+
+    /**
+     * 현재 제공 중인 사이트맵 파일
+     * @param shards 분할 파일 이름 목록 (sitemap-1.xml.gz ...)
+     * @param lastModified 생성 시각 (epoch millis, HTTP Last-Modified로 사용)
+     */
+    public record Snapshot(CatalogVersion version, Path dir, List<String> shards, long urlCount, long lastModified) {
+
+        public Path index() {
+            return dir.resolve(INDEX_FILE);
+        }
+
+        /**
+         * 분할 파일 경로
+         * @return 이번 생성본에 없는 이름이면 null
+         */
+        public Path shard(String name) {
+            return shards.contains(name) ? dir.resolve(name) : null;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.sitemap.initial-delay-ms:10000}",
+            fixedDelayString = "${app.sitemap.check-interval-ms:600000}")
+    public void scheduledRefresh() {
+        if (!generateLock.tryLock()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("[SITEMAP] 사이트맵 생성 실패", e);
+        } finally {
+            generateLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 사이트맵 (아직 한 번도 만들지 않았으면 이 자리에서 생성)
+     */
+    public Snapshot current() throws IOException {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        generateLock.lock();
+        try {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot;
+        } finally {
+            generateLock.unlock();
+        }
+    }
+
+    /**
+     * 카탈로그 버전이 바뀌었으면 새 파일을 만들어 교체 (generateLock 안에서 호출)
+     */
+    private void refresh() throws IOException {
+        CatalogVersion version = readOnlyTransaction.execute(status -> {
+            Object[] cards = entityManager.createQuery(CARD_VERSION_QUERY, Object[].class).getSingleResult();
+            Object[] boxes = entityManager.createQuery(BOX_VERSION_QUERY, Object[].class).getSingleResult();
+            return new CatalogVersion(((Number) cards[0]).longValue(), (LocalDateTime) cards[1],
+                    ((Number) boxes[0]).longValue(), (LocalDateTime) boxes[1]);
+        });
+        Snapshot current = snapshot;
+        if (current != null && current.version().equals(version)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Path dir = baseDir.resolve("v" + startedAt);
+        Files.createDirectories(dir);
+        Snapshot generated;
+        try {
+            generated = generate(version, dir, startedAt);
+        } catch (IOException | RuntimeException e) {
+            deleteDirectory(dir);
+            throw e;
+        }
+
+        snapshot = generated;
+        // 직전 파일은 읽는 중인 요청이 있을 수 있어 다음 교체 때 삭제 (재시작 전에 만든 파일도 함께 정리)
+        deleteStaleDirectories(generated.dir(), current != null ? current.dir() : null);
+
+        log.info("[SITEMAP] 사이트맵 생성 완료 - URL {}개, 분할 파일 {}개, 소요: {}ms",
+                generated.urlCount(), generated.shards().size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private Snapshot generate(CatalogVersion version, Path dir, long generatedAt) throws IOException {
+        LocalDateTime catalogModified = version.lastModified();
+        LocalDate staticLastmod = catalogModified != null ? catalogModified.toLocalDate() : LocalDate.now();
+
+        try (ShardWriter writer = new ShardWriter(dir)) {
+            // 고정 페이지
+            writer.add(siteUrl + "/", staticLastmod, "daily", "1.0");
+            writer.add(siteUrl + "/cards", staticLastmod, "daily", "0.8");
+            writer.add(siteUrl + "/collection", staticLastmod, "weekly", "0.7");
+
+            // 카드/원피스 박스 상세 페이지 (엔티티 대신 ID와 수정 시각만 순방향 스크롤로 읽음)
+            readOnlyTransaction.executeWithoutResult(status -> {
+                Session session = entityManager.unwrap(Session.class);
+                scroll(session, CARD_QUERY, writer, siteUrl + "/cards/", "0.6");
+                scroll(session, BOX_QUERY, writer, siteUrl + "/onepiece-boxes/", "0.6");
+            });
+            writer.finish();
+
+            writeIndex(dir.resolve(INDEX_FILE), writer.shards, writer.shardLastmods);
+            return new Snapshot(version, dir, List.copyOf(writer.shards), writer.urlCount, generatedAt);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void scroll(Session session, String query, ShardWriter writer, String pathPrefix, String priority) {
+        try (ScrollableResults<Object[]> rows = session.createSelectionQuery(query, Object[].class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                Object[] row = rows.get();
+                LocalDateTime updatedAt = (LocalDateTime) row[1];
+                writer.add(pathPrefix + row[0], updatedAt != null ? updatedAt.toLocalDate() : null, "weekly", priority);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeIndex(Path index, List<String> shards, List<LocalDate> lastmods) throws IOException {
+        Path temp = index.resolveSibling(INDEX_FILE + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            out.write(XML_HEADER);
+            out.write("<sitemapindex xmlns=\"" + NAMESPACE + "\">\n");
+            for (int i = 0; i < shards.size(); i++) {
+                out.write("  <sitemap>\n");
+                out.write("    <loc>" + escapeXml(siteUrl + "/sitemaps/" + shards.get(i)) + "</loc>\n");
+                if (lastmods.get(i) != null) {
+                    out.write("    <lastmod>" + lastmods.get(i).format(DateTimeFormatter.ISO_DATE) + "</lastmod>\n");
+                }
+                out.write("  </sitemap>\n");
+            }
+            out.write("</sitemapindex>\n");
+        }
+        Files.move(temp, index);
+    }
+
+    /**
+     * URL을 받아 파일당 maxUrlsPerShard개씩 gzip 분할 파일로 기록
+     */
+    private final class ShardWriter implements AutoCloseable {
+        private final Path dir;
+        private final List<String> shards = new ArrayList<>();
+        private final List<LocalDate> shardLastmods = new ArrayList<>();
+        private Writer out;
+        private int shardUrls;
+        private LocalDate shardLastmod;
+        private long urlCount;
+
+        private ShardWriter(Path dir) {
+            this.dir = dir;
+        }
+
+        private void add(String loc, LocalDate lastmod, String changefreq, String priority) throws IOException {
+            if (out == null || shardUrls >= maxUrlsPerShard) {
+                finish();
+                String name = "sitemap-" + (shards.size() + 1) + ".xml.gz";
+                out = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(dir.resolve(name)), 64 * 1024), StandardCharsets.UTF_8));
+                out.write(XML_HEADER);
+                out.write("<urlset xmlns=\"" + NAMESPACE + "\">\n");
+                shards.add(name);
+                shardUrls = 0;
+                shardLastmod = null;
+            }
+            out.write("  <url>\n");
+            out.write("    <loc>" + escapeXml(loc) + "</loc>\n");
+            if (lastmod != null) {
+                out.write("    <lastmod>" + lastmod.format(DateTimeFormatter.ISO_DATE) + "</lastmod>\n");
+                if (shardLastmod == null || lastmod.isAfter(shardLastmod)) {
+                    shardLastmod = lastmod;
+                }
+            }
+            out.write("    <changefreq>" + changefreq + "</changefreq>\n");
+            out.write("    <priority>" + priority + "</priority>\n");
+            out.write("  </url>\n");
+            shardUrls++;
+            urlCount++;
+        }
+
+        /**
+         * 작성 중인 분할 파일을 닫음
+         */
+        private void finish() throws IOException {
+            if (out == null) {
+                return;
+            }
+            out.write("</urlset>\n");
+            out.close();
+            out = null;
+            shardLastmods.add(shardLastmod);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) {
+                out.close();
+            }
+        }
+    }
+
+    private void deleteStaleDirectories(Path keep, Path previous) {
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(baseDir, "v*")) {
+            for (Path dir : dirs) {
+                if (!dir.equals(keep) && !dir.equals(previous)) {
+                    deleteDirectory(dir);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[SITEMAP] 이전 사이트맵 정리 실패 - {}", baseDir, e);
+        }
+    }
+
+    private void deleteDirectory(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("[SITEMAP] 사이트맵 파일 삭제 실패 - {}", dir, e);
+        }
+    }
+
+    private static String escapeXml(String str) {
+        return str.replace("&", "&amp;")
+                  .replace("<", "&lt;")
+                  .replace(">", "&gt;")
+                  .replace("\"", "&quot;")
+                  .replace("'", "&apos;");
+    }
+}
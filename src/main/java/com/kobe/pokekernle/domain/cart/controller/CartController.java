@@ -1,18 +1,21 @@
 package com.kobe.pokekernle.domain.cart.controller;
 
 import com.kobe.pokekernle.domain.cart.dto.request.AddCartItemRequest;
+import com.kobe.pokekernle.domain.cart.dto.request.BulkCartItemRequest;
 import com.kobe.pokekernle.domain.cart.dto.response.CartResponse;
+import com.kobe.pokekernle.domain.cart.service.CartOwner;
 import com.kobe.pokekernle.domain.cart.service.CartService;
-import com.kobe.pokekernle.domain.user.entity.User;
-import com.kobe.pokekernle.domain.user.repository.UserRepository;
+import com.kobe.pokekernle.global.config.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,27 +26,30 @@ import java.util.Map;
 public class CartController {
 
     private final CartService cartService;
-    private final UserRepository userRepository;
 
     /**
-     * 현재 사용자 정보 가져오기
+     * 장바구니 소유자 결정 (로그인 사용자, 아니면 게스트 토큰)
+     * @param issueGuestToken 게스트 토큰이 없을 때 새로 발급할지 (조회만 할 때는 발급하지 않음)
      */
-    private User getCurrentUser(Principal principal) {
-        if (principal == null) {
-            throw new IllegalArgumentException("로그인이 필요합니다.");
+    private CartOwner resolveOwner(CustomUserDetails userDetails, HttpServletRequest request, HttpServletResponse response,
+                                   boolean issueGuestToken) {
+        if (userDetails != null) {
+            return CartOwner.user(userDetails.getId());
         }
-        return userRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return CartOwner.guest(issueGuestToken
+                ? GuestCartCookie.readOrIssue(request, response)
+                : GuestCartCookie.read(request));
     }
 
     /**
      * 장바구니에 아이템 추가
      */
     @PostMapping("/items")
-    public ResponseEntity<?> addItem(@Valid @RequestBody AddCartItemRequest request, Principal principal) {
+    public ResponseEntity<?> addItem(@Valid @RequestBody AddCartItemRequest request, @AuthenticationPrincipal CustomUserDetails userDetails,
+                                     HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
         try {
-            User user = getCurrentUser(principal);
-            cartService.addItem(user.getId(), request);
+            CartOwner owner = resolveOwner(userDetails, httpRequest, httpResponse, true);
+            cartService.addItem(owner, request);
             
             Map<String, String> response = new HashMap<>();
             response.put("message", "장바구니에 추가되었습니다.");
@@ -60,14 +66,36 @@ public class CartController {
         }
     }
 
+    /**
+     * 장바구니 일괄 변경 (추가/수량 변경/삭제를 한 번에 처리하고 변경된 장바구니 반환)
+     */
+    @PatchMapping("/items")
+    public ResponseEntity<?> applyOperations(@Valid @RequestBody BulkCartItemRequest request, @AuthenticationPrincipal CustomUserDetails userDetails,
+                                             HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        try {
+            CartOwner owner = resolveOwner(userDetails, httpRequest, httpResponse, true);
+            CartResponse cart = cartService.applyOperations(owner, request);
+            return ResponseEntity.ok(cart);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("[CART] 장바구니 일괄 변경 실패", e);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "장바구니 변경 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 장바구니 조회
      */
     @GetMapping
-    public ResponseEntity<?> getCart(Principal principal) {
+    public ResponseEntity<?> getCart(@AuthenticationPrincipal CustomUserDetails userDetails, HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
         try {
-            User user = getCurrentUser(principal);
-            CartResponse cart = cartService.getCart(user.getId());
+            CartOwner owner = resolveOwner(userDetails, httpRequest, httpResponse, false);
+            CartResponse cart = cartService.getCart(owner);
             return ResponseEntity.ok(cart);
         } catch (IllegalArgumentException e) {
             Map<String, String> response = new HashMap<>();
@@ -82,16 +110,18 @@ public class CartController {
     }
 
     /**
-     * 장바구니 아이템 수량 업데이트
+     * 장바구니 아이템 수량 업데이트 (아이템은 카드 ID로 식별)
      */
-    @PutMapping("/items/{cartItemId}")
+    @PutMapping("/items/{cardId}")
     public ResponseEntity<?> updateItemQuantity(
-            @PathVariable Long cartItemId,
+            @PathVariable Long cardId,
             @RequestParam Integer quantity,
-            Principal principal) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
         try {
-            User user = getCurrentUser(principal);
-            cartService.updateItemQuantity(user.getId(), cartItemId, quantity);
+            CartOwner owner = resolveOwner(userDetails, httpRequest, httpResponse, false);
+            cartService.updateItemQuantity(owner, cardId, quantity);
             
             Map<String, String> response = new HashMap<>();
             response.put("message", "수량이 업데이트되었습니다.");
@@ -109,13 +139,14 @@ public class CartController {
     }
 
     /**
-     * 장바구니 아이템 삭제
+     * 장바구니 아이템 삭제 (아이템은 카드 ID로 식별)
      */
-    @DeleteMapping("/items/{cartItemId}")
-    public ResponseEntity<?> removeItem(@PathVariable Long cartItemId, Principal principal) {
+    @DeleteMapping("/items/{cardId}")
+    public ResponseEntity<?> removeItem(@PathVariable Long cardId, @AuthenticationPrincipal CustomUserDetails userDetails,
+                                        HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
         try {
-            User user = getCurrentUser(principal);
-            cartService.removeItem(user.getId(), cartItemId);
+            CartOwner owner = resolveOwner(userDetails, httpRequest, httpResponse, false);
+            cartService.removeItem(owner, cardId);
             
             Map<String, String> response = new HashMap<>();
             response.put("message", "장바구니에서 삭제되었습니다.");
@@ -136,10 +167,10 @@ public class CartController {
      * 장바구니 비우기
      */
     @DeleteMapping
-    public ResponseEntity<?> clearCart(Principal principal) {
+    public ResponseEntity<?> clearCart(@AuthenticationPrincipal CustomUserDetails userDetails, HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
         try {
-            User user = getCurrentUser(principal);
-            cartService.clearCart(user.getId());
+            CartOwner owner = resolveOwner(userDetails, httpRequest, httpResponse, false);
+            cartService.clearCart(owner);
             
             Map<String, String> response = new HashMap<>();
             response.put("message", "장바구니가 비워졌습니다.");
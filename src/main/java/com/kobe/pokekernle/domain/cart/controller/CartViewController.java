@@ -1,18 +1,18 @@
 package com.kobe.pokekernle.domain.cart.controller;
 
 import com.kobe.pokekernle.domain.cart.dto.response.CartResponse;
+import com.kobe.pokekernle.domain.cart.service.CartOwner;
 import com.kobe.pokekernle.domain.cart.service.CartService;
-import com.kobe.pokekernle.domain.user.entity.User;
-import com.kobe.pokekernle.domain.user.repository.UserRepository;
+import com.kobe.pokekernle.global.config.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.security.Principal;
-
 @Slf4j
 @Controller
 @RequestMapping("/cart")
@@ -20,30 +20,18 @@ import java.security.Principal;
 public class CartViewController {
 
     private final CartService cartService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public String cartPage(Principal principal, Model model) {
-        if (principal == null) {
-            return "redirect:/admin/login";
+    public String cartPage(@AuthenticationPrincipal CustomUserDetails userDetails, HttpServletRequest request, Model model) {
+        // 비로그인 사용자는 게스트 장바구니를 보여줌 (주문 시 로그인하면 사용자 장바구니로 합쳐짐)
+        if (userDetails == null) {
+            model.addAttribute("cart", cartService.getCart(CartOwner.guest(GuestCartCookie.read(request))));
+            return "cart";
         }
 
         try {
-            String email = principal.getName();
-            log.info("[CART VIEW] 장바구니 페이지 접근 - Email: {}", email);
-            
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-            log.info("[CART VIEW] 사용자 찾음 - User ID: {}, Email: {}", user.getId(), user.getEmail());
-
-            CartResponse cart = cartService.getCart(user.getId());
-            
-            log.info("[CART VIEW] 장바구니 조회 완료 - Items Count: {}, Total Price: {}", 
-                    cart.getItems().size(), cart.getTotalPrice());
-            
+            CartResponse cart = cartService.getCart(userDetails.getId());
             model.addAttribute("cart", cart);
-            model.addAttribute("user", user);
         } catch (IllegalArgumentException e) {
             log.warn("[CART] 장바구니 조회 실패 - {}", e.getMessage());
             model.addAttribute("error", e.getMessage());
@@ -0,0 +1,65 @@
+package com.kobe.pokekernle.domain.cart.controller;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 게스트 장바구니 토큰 쿠키
+ */
+public final class GuestCartCookie {
+
+    public static final String NAME = "GUEST_CART";
+    private static final Duration MAX_AGE = Duration.ofDays(7);
+
+    private GuestCartCookie() {
+    }
+
+    /**
+     * 요청의 게스트 토큰 (없으면 null)
+     */
+    public static String read(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, NAME);
+        if (cookie == null || cookie.getValue() == null || cookie.getValue().isBlank()) {
+            return null;
+        }
+        return cookie.getValue();
+    }
+
+    /**
+     * 요청의 게스트 토큰을 가져오고, 없으면 새로 발급해 쿠키로 내려줌
+     */
+    public static String readOrIssue(HttpServletRequest request, HttpServletResponse response) {
+        String token = read(request);
+        if (token != null) {
+            return token;
+        }
+        token = UUID.randomUUID().toString();
+        write(request, response, token, MAX_AGE);
+        return token;
+    }
+
+    /**
+     * 게스트 토큰 쿠키 삭제 (로그인 후 병합 완료 시)
+     */
+    public static void clear(HttpServletRequest request, HttpServletResponse response) {
+        write(request, response, "", Duration.ZERO);
+    }
+
+    private static void write(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(NAME, value)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
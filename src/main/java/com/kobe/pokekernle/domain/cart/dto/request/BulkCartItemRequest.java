@@ -0,0 +1,41 @@
+package com.kobe.pokekernle.domain.cart.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkCartItemRequest {
+
+    @NotEmpty(message = "변경할 항목이 필요합니다.")
+    @Size(max = 100, message = "한 번에 최대 100개까지 변경할 수 있습니다.")
+    @Valid
+    private List<Operation> operations;
+
+    public enum OperationType {
+        ADD,    // 수량 추가 (없으면 새로 담기)
+        UPDATE, // 수량 변경
+        REMOVE  // 삭제
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Operation {
+        @NotNull(message = "작업 종류는 필수입니다.")
+        private OperationType op;
+
+        @NotNull(message = "카드 ID는 필수입니다.")
+        private Long cardId;
+
+        private Integer quantity; // ADD, UPDATE에서 필수 (1 이상)
+    }
+}
@@ -9,7 +9,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 장바구니 엔티티
@@ -45,6 +48,21 @@ public class Cart extends BaseTimeEntity {
         item.setCart(this);
     }
 
+    /**
+     * 특정 카드들의 아이템 제거
+     */
+    public void removeItemsByCardIds(Collection<Long> cardIds) {
+        cartItems.removeIf(item -> cardIds.contains(item.getCard().getId()));
+    }
+
+    /**
+     * 주어진 카드들의 아이템만 남기고 제거 (같은 카드의 중복 행은 첫 행만 남김)
+     */
+    public void retainItemsByCardIds(Collection<Long> cardIds) {
+        Set<Long> kept = new HashSet<>();
+        cartItems.removeIf(item -> !cardIds.contains(item.getCard().getId()) || !kept.add(item.getCard().getId()));
+    }
+
     /**
      * 장바구니 비우기
      */
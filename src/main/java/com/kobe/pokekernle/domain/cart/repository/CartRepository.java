@@ -6,12 +6,22 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUser(User user);
+
+    Optional<Cart> findByUserId(Long userId);
     
-    @Query("SELECT c FROM Cart c JOIN FETCH c.cartItems WHERE c.user = :user")
-    Optional<Cart> findByUserWithItems(@Param("user") User user);
+    /**
+     * 장바구니, 아이템, 카드를 한 번의 쿼리로 조회 (아이템이 없는 장바구니도 조회됨)
+     */
+    @Query("SELECT DISTINCT c FROM Cart c LEFT JOIN FETCH c.cartItems i LEFT JOIN FETCH i.card WHERE c.user.id = :userId ORDER BY i.id")
+    Optional<Cart> findByUserIdWithItems(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT c FROM Cart c LEFT JOIN FETCH c.cartItems WHERE c.user.id IN :userIds")
+    List<Cart> findAllWithItemsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
 
@@ -0,0 +1,19 @@
+package com.kobe.pokekernle.domain.cart.service;
+
+/**
+ * 장바구니 소유자 (로그인 사용자 또는 게스트 토큰)
+ */
+public record CartOwner(Long userId, String guestToken) {
+
+    public static CartOwner user(Long userId) {
+        return new CartOwner(userId, null);
+    }
+
+    public static CartOwner guest(String guestToken) {
+        return new CartOwner(null, guestToken);
+    }
+
+    public boolean isGuest() {
+        return userId == null;
+    }
+}
@@ -1,60 +1,42 @@
 package com.kobe.pokekernle.domain.cart.service;
 
 import com.kobe.pokekernle.domain.cart.dto.request.AddCartItemRequest;
+import com.kobe.pokekernle.domain.cart.dto.request.BulkCartItemRequest;
 import com.kobe.pokekernle.domain.cart.dto.response.CartItemResponse;
 import com.kobe.pokekernle.domain.cart.dto.response.CartResponse;
-import com.kobe.pokekernle.domain.cart.entity.Cart;
-import com.kobe.pokekernle.domain.cart.entity.CartItem;
-import com.kobe.pokekernle.domain.cart.repository.CartItemRepository;
-import com.kobe.pokekernle.domain.cart.repository.CartRepository;
 import com.kobe.pokekernle.domain.card.entity.Card;
 import com.kobe.pokekernle.domain.card.repository.CardRepository;
-import com.kobe.pokekernle.domain.user.entity.User;
-import com.kobe.pokekernle.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 장바구니 서비스
+ * 장바구니 내용은 CartStore(메모리)에서 읽고 쓰며 DB 저장은 CartStore가 묶어서 처리하므로,
+ * 조회/변경 시 트랜잭션(커넥션)을 잡지 않도록 클래스 단위 @Transactional을 두지 않습니다.
+ * 장바구니 아이템은 카드 ID로 식별합니다. (저장 전에는 cart_items ID가 없음)
+ * 비로그인 사용자는 GuestCartStore의 게스트 장바구니를 사용합니다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class CartService {
 
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
+    private final GuestCartStore guestCartStore;
     private final CardRepository cardRepository;
-    private final UserRepository userRepository;
-
-    /**
-     * 사용자의 장바구니 가져오기 (없으면 생성)
-     */
-    @Transactional
-    public Cart getOrCreateCart(User user) {
-        return cartRepository.findByUser(user)
-                .orElseGet(() -> {
-                    log.info("[CART] 새 장바구니 생성 - User ID: {}", user.getId());
-                    Cart cart = Cart.builder()
-                            .user(user)
-                            .build();
-                    Cart savedCart = cartRepository.save(cart);
-                    log.info("[CART] 장바구니 생성 완료 - Cart ID: {}, User ID: {}", savedCart.getId(), user.getId());
-                    return savedCart;
-                });
-    }
 
     /**
      * 장바구니에 아이템 추가
      */
-    @Transactional
-    public void addItem(Long userId, AddCartItemRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
+    public void addItem(CartOwner owner, AddCartItemRequest request) {
         Card card = cardRepository.findById(request.getCardId())
                 .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다."));
 
@@ -66,82 +48,105 @@ public class CartService {
             throw new IllegalArgumentException("요청한 수량이 재고를 초과합니다.");
         }
 
-        Cart cart = getOrCreateCart(user);
-        
-        // 이미 장바구니에 있는 아이템인지 확인
-        CartItem existingItem = cartItemRepository.findByCartIdAndCardId(cart.getId(), card.getId())
-                .orElse(null);
-
-        if (existingItem != null) {
-            // 기존 아이템이 있으면 수량 추가
-            int newQuantity = existingItem.getQuantity() + request.getQuantity();
-            if (newQuantity > card.getQuantity()) {
-                throw new IllegalArgumentException("요청한 수량이 재고를 초과합니다. (최대: " + card.getQuantity() + "개)");
+        mutate(owner, lines -> {
+            CartStore.Line existing = lines.get(card.getId());
+            if (existing != null) {
+                // 기존 아이템이 있으면 수량 추가 (단가는 처음 담을 때 가격 유지)
+                int newQuantity = existing.quantity() + request.getQuantity();
+                if (newQuantity > card.getQuantity()) {
+                    throw new IllegalArgumentException("요청한 수량이 재고를 초과합니다. (최대: " + card.getQuantity() + "개)");
+                }
+                lines.put(card.getId(), CartStore.Line.of(card, newQuantity, existing.unitPrice()));
+            } else {
+                lines.put(card.getId(), CartStore.Line.of(card, request.getQuantity(), card.getSalePrice()));
+            }
+            return null;
+        });
+        log.debug("[CART] 장바구니에 추가 - Owner: {}, Card ID: {}, Quantity: {}", owner, request.getCardId(), request.getQuantity());
+    }
+
+    /**
+     * 장바구니 일괄 변경 (추가/수량 변경/삭제)
+     * 참조하는 카드를 한 번에 조회해 모든 작업을 검증한 뒤, 하나라도 실패하면 아무것도 반영하지 않습니다.
+     */
+    public CartResponse applyOperations(CartOwner owner, BulkCartItemRequest request) {
+        List<Long> cardIds = request.getOperations().stream()
+                .filter(operation -> operation.getOp() != BulkCartItemRequest.OperationType.REMOVE)
+                .map(BulkCartItemRequest.Operation::getCardId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Card> cards = cardRepository.findAllById(cardIds).stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+
+        mutate(owner, lines -> {
+            Map<Long, CartStore.Line> working = new LinkedHashMap<>(lines);
+            for (BulkCartItemRequest.Operation operation : request.getOperations()) {
+                Long cardId = operation.getCardId();
+                if (operation.getOp() == BulkCartItemRequest.OperationType.REMOVE) {
+                    working.remove(cardId);
+                    continue;
+                }
+
+                Card card = cards.get(cardId);
+                if (card == null) {
+                    throw new IllegalArgumentException("카드를 찾을 수 없습니다. ID: " + cardId);
+                }
+                if (card.getSalePrice() == null || card.getSalePrice() == 0) {
+                    throw new IllegalArgumentException("판매 가격이 설정되지 않은 카드입니다: " + card.getName());
+                }
+                if (operation.getQuantity() == null || operation.getQuantity() < 1) {
+                    throw new IllegalArgumentException("수량은 1 이상이어야 합니다. (카드: " + card.getName() + ")");
+                }
+
+                CartStore.Line existing = working.get(cardId);
+                int newQuantity;
+                if (operation.getOp() == BulkCartItemRequest.OperationType.ADD) {
+                    newQuantity = (existing != null ? existing.quantity() : 0) + operation.getQuantity();
+                } else {
+                    if (existing == null) {
+                        throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다. (카드: " + card.getName() + ")");
+                    }
+                    newQuantity = operation.getQuantity();
+                }
+
+                int stock = card.getQuantity() != null ? card.getQuantity() : 0;
+                if (newQuantity > stock) {
+                    throw new IllegalArgumentException("요청한 수량이 재고를 초과합니다. (카드: " + card.getName() + ", 최대: " + stock + "개)");
+                }
+                working.put(cardId, CartStore.Line.of(card, newQuantity, existing != null ? existing.unitPrice() : card.getSalePrice()));
             }
-            existingItem.updateQuantity(newQuantity);
-            log.info("[CART] 장바구니 아이템 수량 업데이트 - User ID: {}, Card ID: {}, Quantity: {} -> {}", 
-                    userId, request.getCardId(), existingItem.getQuantity() - request.getQuantity(), newQuantity);
-        } else {
-            // 새 아이템 추가
-            CartItem cartItem = CartItem.builder()
-                    .cart(cart)
-                    .card(card)
-                    .quantity(request.getQuantity())
-                    .unitPrice(card.getSalePrice())
-                    .build();
-            cart.addItem(cartItem);
-            // CartItem을 데이터베이스에 저장 (CascadeType.ALL이지만 명시적으로 저장하는 것이 안전)
-            cartItemRepository.save(cartItem);
-            log.info("[CART] 장바구니에 새 아이템 추가됨 - User ID: {}, Card ID: {}, Quantity: {}, CartItem ID: {}", 
-                    userId, request.getCardId(), request.getQuantity(), cartItem.getId());
-        }
-        
-        // Cart를 저장하여 변경사항 반영 (CascadeType.ALL이 있지만 명시적으로 저장)
-        cartRepository.save(cart);
 
-        log.info("[CART] 장바구니에 추가 완료 - User ID: {}, Card ID: {}, Quantity: {}", userId, request.getCardId(), request.getQuantity());
+            // 모든 작업이 검증된 경우에만 반영
+            lines.clear();
+            lines.putAll(working);
+            return null;
+        });
+
+        return getCart(owner);
     }
 
     /**
-     * 장바구니 조회
+     * 로그인 사용자의 장바구니 조회
      */
-    @Transactional
     public CartResponse getCart(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        log.info("[CART] 장바구니 조회 시작 - User ID: {}, Email: {}", userId, user.getEmail());
-
-        Cart cart = cartRepository.findByUser(user)
-                .orElseGet(() -> {
-                    log.info("[CART] 장바구니가 없어 새로 생성 - User ID: {}", userId);
-                    Cart newCart = Cart.builder()
-                            .user(user)
-                            .build();
-                    return cartRepository.save(newCart);
-                });
-
-        log.info("[CART] 장바구니 찾음 - Cart ID: {}, User ID: {}", cart.getId(), userId);
-
-        // 장바구니 아이템들을 lazy loading으로 가져오기 위해 명시적으로 조회
-        List<CartItem> cartItems = cartItemRepository.findByCartId(cart.getId());
-        
-        log.info("[CART] 장바구니 아이템 개수 - Cart ID: {}, Items Count: {}", cart.getId(), cartItems.size());
-
-        List<CartItemResponse> items = cartItems.stream()
-                .map(item -> {
-                    Card card = item.getCard();
-                    return CartItemResponse.builder()
-                            .id(item.getId())
-                            .cardId(card.getId())
-                            .cardName(card.getName() != null ? card.getName() : "")
-                            .imageUrl(card.getDisplayImageUrl() != null ? card.getDisplayImageUrl() : "/images/pokemon-card.png")
-                            .quantity(item.getQuantity())
-                            .unitPrice(item.getUnitPrice() != null ? item.getUnitPrice() : 0L)
-                            .totalPrice(item.getTotalPrice() != null ? item.getTotalPrice() : 0L)
-                            .maxQuantity(card.getQuantity() != null ? card.getQuantity() : 0)
-                            .build();
-                })
+        return getCart(CartOwner.user(userId));
+    }
+
+    /**
+     * 장바구니 조회
+     */
+    public CartResponse getCart(CartOwner owner) {
+        List<CartItemResponse> items = lines(owner).stream()
+                .map(line -> CartItemResponse.builder()
+                        .id(line.cardId())
+                        .cardId(line.cardId())
+                        .cardName(line.cardName() != null ? line.cardName() : "")
+                        .imageUrl(line.imageUrl() != null ? line.imageUrl() : "/images/pokemon-card.png")
+                        .quantity(line.quantity())
+                        .unitPrice(line.unitPrice())
+                        .totalPrice(line.totalPrice())
+                        .maxQuantity(line.maxQuantity())
+                        .build())
                 .collect(Collectors.toList());
 
         Long totalPrice = items.stream()
@@ -161,59 +166,103 @@ public class CartService {
 
     /**
      * 장바구니 아이템 수량 업데이트
+     * 재고는 장바구니에 담거나 불러올 때 확인한 값 기준이며, 주문 시 다시 확인합니다.
      */
-    @Transactional
-    public void updateItemQuantity(Long userId, Long cartItemId, Integer quantity) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다."));
-
-        if (!cartItem.getCart().getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("권한이 없습니다.");
-        }
-
-        if (quantity < 1) {
+    public void updateItemQuantity(CartOwner owner, Long cardId, Integer quantity) {
+        if (quantity == null || quantity < 1) {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
         }
 
-        if (quantity > cartItem.getCard().getQuantity()) {
-            throw new IllegalArgumentException("요청한 수량이 재고를 초과합니다. (최대: " + cartItem.getCard().getQuantity() + "개)");
-        }
-
-        cartItem.updateQuantity(quantity);
-        log.info("[CART] 수량 업데이트 - CartItem ID: {}, Quantity: {}", cartItemId, quantity);
+        mutate(owner, lines -> {
+            CartStore.Line line = lines.get(cardId);
+            if (line == null) {
+                throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다.");
+            }
+            if (quantity > line.maxQuantity()) {
+                throw new IllegalArgumentException("요청한 수량이 재고를 초과합니다. (최대: " + line.maxQuantity() + "개)");
+            }
+            lines.put(cardId, line.withQuantity(quantity));
+            return null;
+        });
     }
 
     /**
      * 장바구니 아이템 삭제
      */
-    @Transactional
-    public void removeItem(Long userId, Long cartItemId) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다."));
-
-        if (!cartItem.getCart().getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("권한이 없습니다.");
-        }
+    public void removeItem(CartOwner owner, Long cardId) {
+        mutate(owner, lines -> {
+            if (lines.remove(cardId) == null) {
+                throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다.");
+            }
+            return null;
+        });
+    }
 
-        cartItemRepository.delete(cartItem);
-        log.info("[CART] 아이템 삭제 - CartItem ID: {}", cartItemId);
+    /**
+     * 주문된 카드들을 장바구니에서 제거 (주문 이벤트 처리용)
+     * DB를 직접 고치면 같은 순간 메모리로 읽힌 장바구니가 나중에 저장되며 제거한 아이템을 되살리므로,
+     * 항상 CartStore를 거쳐(메모리에 없으면 읽어와서) 제거하고 바로 저장합니다.
+     */
+    public void removeCards(Long userId, Collection<Long> cardIds) {
+        cartStore.mutate(userId, lines -> lines.keySet().removeAll(cardIds));
+        cartStore.flush(userId);
     }
 
     /**
      * 장바구니 비우기
      */
-    @Transactional
-    public void clearCart(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    public void clearCart(CartOwner owner) {
+        mutate(owner, lines -> {
+            lines.clear();
+            return null;
+        });
+        log.info("[CART] 장바구니 비우기 - Owner: {}", owner);
+    }
 
-        Cart cart = cartRepository.findByUser(user)
-                .orElse(null);
+    /**
+     * 메모리의 장바구니 변경분을 즉시 DB에 저장 (체크아웃 시)
+     */
+    public void flush(Long userId) {
+        cartStore.flush(userId);
+    }
 
-        if (cart != null) {
-            cart.clear();
-            log.info("[CART] 장바구니 비우기 - User ID: {}", userId);
+    /**
+     * 게스트 장바구니를 사용자 장바구니로 병합 (로그인 시)
+     * 현재 재고로 수량을 맞춘 뒤 한 번의 저장(트랜잭션)으로 DB에 반영합니다.
+     */
+    public void mergeGuestCart(String guestToken, Long userId) {
+        List<CartStore.Line> guestLines = guestCartStore.remove(guestToken);
+        if (guestLines.isEmpty()) {
+            return;
         }
+
+        List<Long> cardIds = guestLines.stream().map(CartStore.Line::cardId).collect(Collectors.toList());
+        Map<Long, Card> cards = cardRepository.findAllById(cardIds).stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+
+        cartStore.mutate(userId, lines -> {
+            for (CartStore.Line guestLine : guestLines) {
+                Card card = cards.get(guestLine.cardId());
+                int stock = card != null && card.getQuantity() != null ? card.getQuantity() : 0;
+                if (card == null || card.getSalePrice() == null || card.getSalePrice() == 0 || stock <= 0) {
+                    continue; // 삭제되었거나 판매할 수 없는 카드는 제외
+                }
+                CartStore.Line existing = lines.get(card.getId());
+                int quantity = Math.min((existing != null ? existing.quantity() : 0) + guestLine.quantity(), stock);
+                lines.put(card.getId(), CartStore.Line.of(card, quantity,
+                        existing != null ? existing.unitPrice() : guestLine.unitPrice()));
+            }
+            return null;
+        });
+        cartStore.flush(userId);
+        log.info("[CART] 게스트 장바구니 병합 - User ID: {}, Items: {}", userId, guestLines.size());
+    }
+
+    private List<CartStore.Line> lines(CartOwner owner) {
+        return owner.isGuest() ? guestCartStore.lines(owner.guestToken()) : cartStore.lines(owner.userId());
     }
-}
 
+    private <T> T mutate(CartOwner owner, Function<Map<Long, CartStore.Line>, T> mutation) {
+        return owner.isGuest() ? guestCartStore.mutate(owner.guestToken(), mutation) : cartStore.mutate(owner.userId(), mutation);
+    }
+}
@@ -0,0 +1,312 @@
+package com.kobe.pokekernle.domain.cart.service;
+
+import com.kobe.pokekernle.domain.card.entity.Card;
+import com.kobe.pokekernle.domain.card.repository.CardRepository;
+import com.kobe.pokekernle.domain.cart.entity.Cart;
+import com.kobe.pokekernle.domain.cart.entity.CartItem;
+import com.kobe.pokekernle.domain.cart.repository.CartRepository;
+import com.kobe.pokekernle.domain.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 메모리 저장소 (write-behind)
+ * 사용자별 장바구니를 메모리에 두고 변경된 장바구니만 주기적으로 묶어서 carts/cart_items에 저장합니다.
+ * 메모리에 없으면 처음 접근할 때 DB에서 읽어오며, 조회만으로는 장바구니 행을 만들지 않습니다.
+ * 서버별 메모리 상태이므로 여러 서버로 운영할 때는 세션 고정(sticky session)이 필요합니다.
+ */
+@Component
+@Slf4j
+public class CartStore {
+
+    private final CartRepository cartRepository;
+    private final CardRepository cardRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int flushBatchSize;
+    private final long idleEvictMillis;
+    private final int maxFlushFailures;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object(); // 같은 장바구니의 오래된 스냅샷이 나중에 저장되지 않도록 저장을 직렬화
+
+    public CartStore(CartRepository cartRepository,
+                     CardRepository cardRepository,
+                     UserRepository userRepository,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${app.cart.flush-batch-size:100}") int flushBatchSize,
+                     @Value("${app.cart.idle-evict-minutes:30}") long idleEvictMinutes,
+                     @Value("${app.cart.max-flush-failures:10}") int maxFlushFailures) {
+        this.cartRepository = cartRepository;
+        this.cardRepository = cardRepository;
+        this.userRepository = userRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // 저장은 호출한 쪽(예: 주문) 트랜잭션과 분리해서 커밋 여부를 정확히 알 수 있게 함
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushBatchSize = Math.max(flushBatchSize, 1);
+        this.idleEvictMillis = TimeUnit.MINUTES.toMillis(idleEvictMinutes);
+        this.maxFlushFailures = Math.max(maxFlushFailures, 1);
+    }
+
+    /**
+     * 장바구니 한 줄 (카드당 한 줄)
+     */
+    public record Line(Long cardId, String cardName, String imageUrl, int quantity, long unitPrice, int maxQuantity) {
+
+        public static Line of(Card card, int quantity, long unitPrice) {
+            return new Line(card.getId(), card.getName(), card.getDisplayImageUrl(), quantity, unitPrice,
+                    card.getQuantity() != null ? card.getQuantity() : 0);
+        }
+
+        public Line withQuantity(int quantity) {
+            return new Line(cardId, cardName, imageUrl, quantity, unitPrice, maxQuantity);
+        }
+
+        public long totalPrice() {
+            return unitPrice * quantity;
+        }
+    }
+
+    /**
+     * 사용자 한 명의 장바구니 상태 (자기 자신으로 동기화)
+     */
+    private static final class Entry {
+        private final Long userId;
+        private final LinkedHashMap<Long, Line> lines;
+        private long version; // 변경할 때마다 증가
+        private long flushedVersion; // DB에 저장된 버전
+        private long lastAccess = System.currentTimeMillis();
+        private int flushFailures; // 연속 저장 실패 횟수
+        private boolean evicted; // 맵에서 제거됨 (이후 접근은 새로 로드)
+
+        private Entry(Long userId, LinkedHashMap<Long, Line> lines) {
+            this.userId = userId;
+            this.lines = lines;
+        }
+
+        private boolean isDirty() {
+            return version != flushedVersion;
+        }
+    }
+
+    private record Snapshot(Entry entry, long version, List<Line> lines) {
+    }
+
+    /**
+     * 장바구니 조회
+     */
+    public List<Line> lines(Long userId) {
+        while (true) {
+            Entry entry = entry(userId);
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                entry.lastAccess = System.currentTimeMillis();
+                return List.copyOf(entry.lines.values());
+            }
+        }
+    }
+
+    /**
+     * 장바구니 변경 (카드 ID -> 줄 맵을 직접 수정)
+     * 변경 함수가 예외를 던지면 변경된 것으로 보지 않으므로, 검증을 마친 뒤에 맵을 수정해야 합니다.
+     */
+    public <T> T mutate(Long userId, Function<Map<Long, Line>, T> mutation) {
+        while (true) {
+            Entry entry = entry(userId);
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                T result = mutation.apply(entry.lines);
+                entry.version++;
+                entry.lastAccess = System.currentTimeMillis();
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 사용자의 장바구니를 즉시 저장 (체크아웃 등)
+     */
+    public void flush(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (flushLock) {
+            Snapshot snapshot;
+            synchronized (entry) {
+                if (entry.evicted || !entry.isDirty()) {
+                    return;
+                }
+                snapshot = snapshot(entry);
+            }
+            writeTransaction.executeWithoutResult(status -> persist(List.of(snapshot)));
+            markFlushed(snapshot);
+        }
+    }
+
+    /**
+     * 변경된 장바구니를 묶어서 저장하고, 오래 사용하지 않은 장바구니는 메모리에서 내림
+     */
+    @Scheduled(fixedDelayString = "${app.cart.flush-interval-ms:5000}")
+    public void flushDirty() {
+        synchronized (flushLock) {
+            long now = System.currentTimeMillis();
+            List<Snapshot> dirty = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                synchronized (entry) {
+                    if (entry.evicted) {
+                        continue;
+                    }
+                    if (entry.isDirty()) {
+                        dirty.add(snapshot(entry));
+                    } else if (now - entry.lastAccess > idleEvictMillis) {
+                        evict(entry);
+                    }
+                }
+            }
+
+            for (int from = 0; from < dirty.size(); from += flushBatchSize) {
+                persistBatch(dirty.subList(from, Math.min(from + flushBatchSize, dirty.size())));
+            }
+            if (!dirty.isEmpty()) {
+                log.debug("[CART] 장바구니 저장 - {}건, 메모리 장바구니: {}개", dirty.size(), entries.size());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushDirty();
+    }
+
+    private Entry entry(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            return entry;
+        }
+        Entry loaded = new Entry(userId, load(userId));
+        Entry existing = entries.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private LinkedHashMap<Long, Line> load(Long userId) {
+        // 장바구니, 아이템, 카드를 한 번에 조회 (장바구니가 없으면 빈 장바구니로 시작하며 행은 만들지 않음)
+        return readTransaction.execute(status -> {
+            LinkedHashMap<Long, Line> lines = new LinkedHashMap<>();
+            cartRepository.findByUserIdWithItems(userId).ifPresent(cart -> {
+                for (CartItem item : cart.getCartItems()) {
+                    // 같은 카드의 중복 행은 수량을 합쳐 한 줄로 (저장할 때 한 행으로 정리됨)
+                    lines.merge(item.getCard().getId(), Line.of(item.getCard(), item.getQuantity(), item.getUnitPrice()),
+                            (first, duplicate) -> first.withQuantity(first.quantity() + duplicate.quantity()));
+                }
+            });
+            return lines;
+        });
+    }
+
+    private Snapshot snapshot(Entry entry) {
+        return new Snapshot(entry, entry.version, List.copyOf(entry.lines.values()));
+    }
+
+    private void markFlushed(Snapshot snapshot) {
+        Entry entry = snapshot.entry();
+        synchronized (entry) {
+            entry.flushedVersion = Math.max(entry.flushedVersion, snapshot.version());
+            entry.flushFailures = 0;
+        }
+    }
+
+    private void evict(Entry entry) {
+        entry.evicted = true;
+        entries.remove(entry.userId, entry);
+    }
+
+    /**
+     * 한 트랜잭션으로 저장하고, 실패하면 한 건씩 나눠서 다시 저장
+     * 한 건으로도 저장되지 않는 장바구니는 변경된 상태로 남겨 다음 저장 주기에 다시 시도하고(일시적인 DB 오류),
+     * 연속으로 max-flush-failures번 실패하면(삭제된 카드 등) 메모리에서 내리고 DB 상태로 되돌립니다.
+     */
+    private void persistBatch(List<Snapshot> batch) {
+        try {
+            writeTransaction.executeWithoutResult(status -> persist(batch));
+            batch.forEach(this::markFlushed);
+        } catch (Exception e) {
+            if (batch.size() > 1) {
+                log.warn("[CART] 장바구니 일괄 저장 실패, 개별 저장으로 재시도 - {}건", batch.size(), e);
+                batch.forEach(snapshot -> persistBatch(List.of(snapshot)));
+                return;
+            }
+            Entry entry = batch.get(0).entry();
+            synchronized (entry) {
+                entry.flushFailures++;
+                if (entry.flushFailures < maxFlushFailures) {
+                    log.warn("[CART] 장바구니 저장 실패, 다음 주기에 재시도 - User ID: {}, 실패: {}회",
+                            entry.userId, entry.flushFailures, e);
+                    return;
+                }
+                log.error("[CART] 장바구니 저장 {}회 연속 실패, 메모리 변경분 폐기 - User ID: {}",
+                        entry.flushFailures, entry.userId, e);
+                evict(entry);
+            }
+        }
+    }
+
+    private void persist(List<Snapshot> batch) {
+        List<Long> userIds = batch.stream().map(snapshot -> snapshot.entry().userId).collect(Collectors.toList());
+        Map<Long, Cart> carts = cartRepository.findAllWithItemsByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(cart -> cart.getUser().getId(), cart -> cart, (first, duplicate) -> first));
+
+        for (Snapshot snapshot : batch) {
+            Long userId = snapshot.entry().userId;
+            Cart cart = carts.get(userId);
+            if (cart == null) {
+                if (snapshot.lines().isEmpty()) {
+                    continue; // 비어 있는 장바구니는 행을 만들지 않음
+                }
+                cart = cartRepository.save(Cart.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .build());
+            }
+
+            Map<Long, Line> desired = new LinkedHashMap<>();
+            snapshot.lines().forEach(line -> desired.put(line.cardId(), line));
+            cart.retainItemsByCardIds(desired.keySet());
+            for (CartItem item : cart.getCartItems()) {
+                Line line = desired.remove(item.getCard().getId());
+                if (item.getQuantity() != line.quantity()) {
+                    item.updateQuantity(line.quantity());
+                }
+            }
+            for (Line line : desired.values()) {
+                cart.addItem(CartItem.builder()
+                        .cart(cart)
+                        .card(cardRepository.getReferenceById(line.cardId()))
+                        .quantity(line.quantity())
+                        .unitPrice(line.unitPrice())
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.kobe.pokekernle.domain.cart.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 게스트(비로그인) 장바구니 저장소
+ * 쿠키의 게스트 토큰을 키로 메모리에만 보관하며 DB에는 저장하지 않습니다. 로그인 시 사용자 장바구니로 합쳐집니다.
+ * 최대 개수(app.cart.guest.max-entries)를 넘으면 가장 오래 사용하지 않은 장바구니부터 버리므로,
+ * 게스트가 몰리면 아직 사용 중인 장바구니도 사라질 수 있습니다. (서버 재시작 시에도 사라짐)
+ * 최대 개수는 동시에 활동하는 게스트 수보다 넉넉하게 잡아야 합니다.
+ */
+@Component
+@Slf4j
+public class GuestCartStore {
+
+    private final long ttlMillis;
+    private final Map<String, GuestCart> carts; // 접근 순서 LRU (carts로 동기화)
+
+    public GuestCartStore(@Value("${app.cart.guest.max-entries:10000}") int maxEntries,
+                          @Value("${app.cart.guest.ttl-hours:168}") long ttlHours) {
+        this.ttlMillis = TimeUnit.HOURS.toMillis(ttlHours);
+        this.carts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GuestCart> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                log.debug("[CART] 게스트 장바구니 최대 개수 초과로 제거 - 마지막 사용: {}ms 전",
+                        System.currentTimeMillis() - eldest.getValue().lastAccess);
+                return true;
+            }
+        };
+    }
+
+    private static final class GuestCart {
+        private final LinkedHashMap<Long, CartStore.Line> lines;
+        private long lastAccess = System.currentTimeMillis();
+
+        private GuestCart(LinkedHashMap<Long, CartStore.Line> lines) {
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * 게스트 장바구니 조회 (없으면 빈 목록, 새로 만들지 않음)
+     */
+    public List<CartStore.Line> lines(String token) {
+        if (token == null) {
+            return List.of();
+        }
+        synchronized (carts) {
+            GuestCart cart = carts.get(token);
+            if (cart == null) {
+                return List.of();
+            }
+            cart.lastAccess = System.currentTimeMillis();
+            return List.copyOf(cart.lines.values());
+        }
+    }
+
+    /**
+     * 게스트 장바구니 변경 (없으면 변경이 성공했을 때만 새로 만듦)
+     * CartStore.mutate와 같이 검증을 마친 뒤에 맵을 수정해야 합니다.
+     * 토큰이 없으면(쿠키 없는 게스트) 빈 장바구니에 적용만 하고 저장하지 않습니다. (모든 토큰 없는 게스트가 한 장바구니를 공유하지 않도록)
+     */
+    public <T> T mutate(String token, Function<Map<Long, CartStore.Line>, T> mutation) {
+        if (token == null) {
+            return mutation.apply(new LinkedHashMap<>());
+        }
+        synchronized (carts) {
+            GuestCart cart = carts.get(token);
+            LinkedHashMap<Long, CartStore.Line> lines = cart != null ? cart.lines : new LinkedHashMap<>();
+            T result = mutation.apply(lines);
+            if (cart == null) {
+                cart = new GuestCart(lines);
+                carts.put(token, cart);
+            }
+            cart.lastAccess = System.currentTimeMillis();
+            return result;
+        }
+    }
+
+    /**
+     * 게스트 장바구니를 꺼내고 제거 (로그인 시 병합용)
+     */
+    public List<CartStore.Line> remove(String token) {
+        if (token == null) {
+            return List.of();
+        }
+        synchronized (carts) {
+            GuestCart cart = carts.remove(token);
+            return cart != null ? List.copyOf(cart.lines.values()) : List.of();
+        }
+    }
+
+    /**
+     * 만료된 게스트 장바구니 정리
+     */
+    @Scheduled(fixedDelayString = "${app.cart.guest.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        long expiredBefore = System.currentTimeMillis() - ttlMillis;
+        int removed = 0;
+        synchronized (carts) {
+            Iterator<GuestCart> iterator = carts.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().lastAccess < expiredBefore) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.debug("[CART] 만료된 게스트 장바구니 정리 - {}건", removed);
+        }
+    }
+}
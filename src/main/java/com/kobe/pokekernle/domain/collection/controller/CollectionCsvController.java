@@ -0,0 +1,96 @@
+package com.kobe.pokekernle.domain.collection.controller;
+
+import com.kobe.pokekernle.domain.collection.dto.response.CollectionImportResult;
+import com.kobe.pokekernle.domain.collection.service.CollectionCsvService;
+import com.kobe.pokekernle.global.config.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.collection.controller
+ * fileName       : CollectionCsvController
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 컬렉션 CSV 가져오기/내보내기
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       임시 유저(ID 1) 대신 로그인한 사용자의 컬렉션을 가져오기/내보내기
+ */
+@Slf4j
+@Controller
+@RequestMapping("/collection")
+@RequiredArgsConstructor
+public class CollectionCsvController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final CollectionCsvService collectionCsvService;
+
+    /**
+     * CSV 가져오기 (결과는 컬렉션 화면에 표시)
+     */
+    @PostMapping("/import")
+    public String importCsv(@RequestParam("file") MultipartFile file,
+                            @AuthenticationPrincipal CustomUserDetails userDetails,
+                            RedirectAttributes redirectAttributes) {
+        if (userDetails == null) {
+            return "redirect:/login";
+        }
+        Long userId = userDetails.getId();
+
+        if (file == null || file.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "가져올 CSV 파일을 선택해주세요.");
+            return "redirect:/collection";
+        }
+        try (InputStream input = file.getInputStream()) {
+            CollectionImportResult result = collectionCsvService.importCsv(userId, input);
+            redirectAttributes.addFlashAttribute("message",
+                    String.format("CSV 가져오기 완료: %d장 추가, %d행 건너뜀", result.imported(), result.failed()));
+            redirectAttributes.addFlashAttribute("importErrors", result.errors());
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", "CSV 가져오기 실패: " + e.getMessage());
+        } catch (Exception e) {
+            log.error("[COLLECTION] CSV 가져오기 실패 - User ID: {}", userId, e);
+            redirectAttributes.addFlashAttribute("error", "CSV 가져오기 중 오류가 발생했습니다.");
+        }
+        return "redirect:/collection";
+    }
+
+    /**
+     * CSV 내보내기 (읽는 대로 응답에 씀)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCsv(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long userId = userDetails.getId();
+
+        String fileName = "my-collection-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".csv";
+        StreamingResponseBody body = output -> collectionCsvService.exportCsv(userId, output);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
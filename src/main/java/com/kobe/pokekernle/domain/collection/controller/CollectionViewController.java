@@ -1,14 +1,19 @@
 package com.kobe.pokekernle.domain.collection.controller;
 
+import com.kobe.pokekernle.domain.card.dto.response.PriceHistoryDto;
 import com.kobe.pokekernle.domain.collection.dto.response.CollectionSummaryResponse;
-import com.kobe.pokekernle.domain.collection.dto.response.MyCollectionResponse;
+import com.kobe.pokekernle.domain.collection.dto.response.MyCollectionPage;
 import com.kobe.pokekernle.domain.collection.service.CollectionService;
+import com.kobe.pokekernle.domain.collection.service.PortfolioValuationService;
+import com.kobe.pokekernle.global.config.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -22,6 +27,9 @@ import java.util.List;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 22.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       평가액 추이(차트) 추가
+ * 2026. 10. 19.        kobe       보유 카드 목록 페이지 나눔 (cursor)
+ * 2026. 10. 19.        kobe       임시 유저(ID 1) 대신 로그인한 사용자의 컬렉션 표시
  */
 @Controller
 @RequestMapping("/collection")
@@ -29,20 +37,32 @@ import java.util.List;
 public class CollectionViewController {
 
     private final CollectionService collectionService;
+    private final PortfolioValuationService portfolioValuationService;
 
     @GetMapping
-    public String myCollection(Model model, Authentication authentication) {
-        // 임시 유저 ID: 1 (지우)
-        Long userId = 1L;
+    public String myCollection(Model model, Authentication authentication,
+                               @AuthenticationPrincipal CustomUserDetails userDetails,
+                               @RequestParam(value = "cursor", required = false) String cursor) {
+        // 본인 컬렉션만 보여주므로 로그인 필요
+        if (userDetails == null) {
+            return "redirect:/login";
+        }
+        Long userId = userDetails.getId();
 
-        // 리스트 데이터
-        List<MyCollectionResponse> collection = collectionService.getMyCollection(userId);
+        // 리스트 데이터 (한 페이지씩)
+        MyCollectionPage page = collectionService.getMyCollection(userId, cursor);
 
         // 요약 데이터
         CollectionSummaryResponse summary = collectionService.getCollectionSummary(userId);
 
-        model.addAttribute("collection", collection);
+        model.addAttribute("collection", page.items());
+        model.addAttribute("nextCursor", page.nextCursor());
+        model.addAttribute("isFirstPage", cursor == null || cursor.isBlank());
         model.addAttribute("summary", summary); // 화면으로 전달
+
+        // 평가액 추이 (차트 데이터)
+        List<PriceHistoryDto> valueHistory = portfolioValuationService.getValueHistory(userId);
+        model.addAttribute("valueHistory", valueHistory);
         
         // 인증 정보 추가 (헤더에 로그인/로그아웃 버튼 표시용)
         model.addAttribute("isAuthenticated", authentication != null && authentication.isAuthenticated());
@@ -0,0 +1,22 @@
+package com.kobe.pokekernle.domain.collection.dto.response;
+
+import java.util.List;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.collection.dto.response
+ * fileName       : CollectionImportResult
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 컬렉션 CSV 가져오기 결과
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public record CollectionImportResult(
+        long rows,                 // 읽은 데이터 행 수 (헤더 제외)
+        long imported,             // 추가한 카드 수
+        long failed,               // 건너뛴 행 수
+        List<String> errors        // 건너뛴 행의 사유 (앞에서부터 최대 N개)
+) {
+}
@@ -14,15 +14,17 @@ import java.util.Collection;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 22.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       보유 카드 수 추가
  */
 public record CollectionSummaryResponse(
+        long cardCount,                             // 보유 카드 수
         String totalPurchasePrice,                  // 총 구매액
         String totalCurrentValue,                   // 총 평가액 (현재 가치)
         String totalProfit,                         // 총 손익금 (+ € 50.00)
         String totalProfitRate,                     // 총 수익률 (+ 25.5%)
         boolean isGain                              // 이득 여부 (색상 표시용)
 ) {
-    public static CollectionSummaryResponse of(BigDecimal totalBuy, BigDecimal totalCurr) {
+    public static CollectionSummaryResponse of(long cardCount, BigDecimal totalBuy, BigDecimal totalCurr) {
         BigDecimal profit = totalCurr.subtract(totalBuy);
         boolean isGain = profit.compareTo(BigDecimal.ZERO) > 0;
 
@@ -34,6 +36,7 @@ public record CollectionSummaryResponse(
         }
 
         return new CollectionSummaryResponse(
+                cardCount,
                 "€ " + totalBuy,
                 "€ " + totalCurr,
                 (isGain ? "+" : "") + "€ " + profit,
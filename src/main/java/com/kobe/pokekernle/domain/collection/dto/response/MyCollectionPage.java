@@ -0,0 +1,21 @@
+package com.kobe.pokekernle.domain.collection.dto.response;
+
+import java.util.List;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.collection.dto.response
+ * fileName       : MyCollectionPage
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 보유 카드 목록 한 페이지 (키셋 페이지네이션)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public record MyCollectionPage(
+        List<MyCollectionResponse> items,
+        String nextCursor,         // 다음 페이지 커서 (마지막 페이지면 null)
+        boolean hasNext
+) {
+}
@@ -21,11 +21,14 @@ import java.math.BigDecimal;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 21.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       유저별 최신순 페이지 조회용 복합 인덱스 추가
  */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user_cards")
+@Table(name = "user_cards", indexes = {
+        @Index(name = "idx_user_card_user_created", columnList = "user_id, createdAt, id")
+})
 public class UserCard extends BaseTimeEntity {
 
     @Id
@@ -1,8 +1,13 @@
 package com.kobe.pokekernle.domain.collection.repository;
 
 import com.kobe.pokekernle.domain.collection.entity.UserCard;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,11 +20,52 @@ import java.util.List;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 21.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       유저별 컬렉션 합계 집계 쿼리 추가
+ * 2026. 10. 19.        kobe       카드/시세를 함께 읽는 키셋 페이지 조회 추가
  */
 public interface UserCardRepository extends JpaRepository<UserCard, Long> {
     // 특정 유저의 보유 카드 목록 조회 (최신순)
     List<UserCard> findAllByUserIdOrderByCreatedAtDesc(Long userId);
     
+    /**
+     * 보유 카드 첫 페이지 (최신순, 카드는 fetch join, 시세는 함께 조회)
+     * @return {UserCard, MarketPrice(없으면 null)} 목록
+     */
+    @Query("SELECT uc, mp FROM UserCard uc JOIN FETCH uc.card c LEFT JOIN MarketPrice mp ON mp.card = c " +
+           "WHERE uc.user.id = :userId " +
+           "ORDER BY uc.createdAt DESC, uc.id DESC")
+    List<Object[]> findPageWithPrice(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 보유 카드 다음 페이지 (직전 페이지 마지막 항목의 (createdAt, id) 이후부터)
+     * @return {UserCard, MarketPrice(없으면 null)} 목록
+     */
+    @Query("SELECT uc, mp FROM UserCard uc JOIN FETCH uc.card c LEFT JOIN MarketPrice mp ON mp.card = c " +
+           "WHERE uc.user.id = :userId " +
+           "AND (uc.createdAt < :createdAt OR (uc.createdAt = :createdAt AND uc.id < :id)) " +
+           "ORDER BY uc.createdAt DESC, uc.id DESC")
+    List<Object[]> findPageWithPriceAfter(@Param("userId") Long userId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
     // 특정 카드에 대한 UserCard 조회
     List<UserCard> findByCard(com.kobe.pokekernle.domain.card.entity.Card card);
+
+    /**
+     * 유저 컬렉션 합계 (보유 카드 수, 총 구매액, 총 평가액)
+     * 카드와 시세를 엔티티로 읽지 않고 DB에서 한 번에 합산합니다. (시세가 없는 카드는 평가액 0)
+     */
+    @Query("SELECT COUNT(uc) AS cardCount, SUM(uc.purchasePrice) AS totalPurchase, SUM(mp.price) AS totalMarketValue " +
+           "FROM UserCard uc LEFT JOIN MarketPrice mp ON mp.card = uc.card " +
+           "WHERE uc.user.id = :userId")
+    CollectionTotals sumByUserId(@Param("userId") Long userId);
+
+    interface CollectionTotals {
+        Long getCardCount();
+
+        BigDecimal getTotalPurchase(); // 구매가가 하나도 없으면 null
+
+        BigDecimal getTotalMarketValue(); // 시세가 하나도 없으면 null
+    }
 }
@@ -0,0 +1,317 @@
+package com.kobe.pokekernle.domain.collection.service;
+
+import com.kobe.pokekernle.domain.card.service.CardKeyIndex;
+import com.kobe.pokekernle.domain.collection.dto.response.CollectionImportResult;
+import com.kobe.pokekernle.domain.collection.entity.CardCondition;
+import com.kobe.pokekernle.domain.collection.entity.CollectionStatus;
+import com.kobe.pokekernle.domain.user.repository.UserRepository;
+import com.kobe.pokekernle.global.util.CsvReader;
+import com.kobe.pokekernle.global.util.CsvWriter;
+import com.kobe.pokekernle.global.util.EnumLookup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.collection.service
+ * fileName       : CollectionCsvService
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 컬렉션 CSV 가져오기/내보내기 (다른 서비스나 엑셀에서 관리하던 컬렉션을 한 번에 옮길 때 사용)
+ *                  가져오기: 파일을 한 행씩 읽으며 (세트 이름, 카드 번호)를 메모리 색인(CardKeyIndex)으로 카드 ID로 바꾸고,
+ *                           user_cards에 N건씩 JDBC 배치로 추가합니다. 잘못된 행은 건너뛰고 사유를 돌려줍니다. (전체가 한 트랜잭션)
+ *                  내보내기: 보유 카드를 DB 커서로 흘려 읽으며 바로 CSV로 씁니다.
+ *                  두 방향 모두 파일 크기와 관계없이 메모리 사용량이 일정합니다. (가져오기의 카드 색인은 카드 수에 비례)
+ *                  단, MySQL에서 내보내기를 나눠 읽으려면 JDBC URL에 useCursorFetch=true가 있어야 합니다. (없으면 드라이버가 결과 전체를 메모리에 올림)
+ *                  컬럼: setName, number, name, condition, status, purchasePrice, memo, createdAt (가져오기는 setName만 필수, name은 무시)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       상태 값 변환을 미리 만든 변환표(EnumLookup)로 변경
+ * 2026. 10. 19.        kobe       내보내기 커서 조회의 MySQL 설정(useCursorFetch) 요구 사항 명시
+ */
+@Slf4j
+@Service
+public class CollectionCsvService {
+
+    private static final String[] COLUMNS = {
+            "setName", "number", "name", "condition", "status", "purchasePrice", "memo", "createdAt"
+    };
+    private static final String INSERT_SQL = """
+            insert into user_cards (user_id, card_id, card_condition, status, purchase_price, memo, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String EXPORT_QUERY = """
+            select c.set_name, c.number, c.name, uc.card_condition, uc.status, uc.purchase_price, uc.memo, uc.created_at
+            from user_cards uc join cards c on c.id = uc.card_id
+            where uc.user_id = ?
+            order by uc.created_at, uc.id
+            """;
+
+    private static final EnumLookup<CardCondition> CONDITIONS = EnumLookup.of(CardCondition.class, "condition");
+    private static final EnumLookup<CollectionStatus> STATUSES = EnumLookup.of(CollectionStatus.class, "status");
+
+    private static final BigDecimal MAX_PURCHASE_PRICE = new BigDecimal("99999999.99"); // precision 10, scale 2
+    private static final int MAX_MEMO_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final UserRepository userRepository;
+    private final CollectionSummaryCache collectionSummaryCache;
+    private final PortfolioValuationService portfolioValuationService;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public CollectionCsvService(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                UserRepository userRepository,
+                                CollectionSummaryCache collectionSummaryCache,
+                                PortfolioValuationService portfolioValuationService,
+                                @Value("${app.collection.csv.batch-size:500}") int batchSize,
+                                @Value("${app.collection.csv.max-errors:100}") int maxErrors,
+                                @Value("${app.collection.csv.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.collectionSummaryCache = collectionSummaryCache;
+        this.portfolioValuationService = portfolioValuationService;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxErrors = Math.max(maxErrors, 0);
+    }
+
+    /**
+     * 가져오기에서 사용하는 컬럼 위치 (없는 컬럼은 null)
+     */
+    private record Columns(Integer setName, Integer number, Integer condition, Integer status,
+                           Integer purchasePrice, Integer memo, Integer createdAt) {
+
+        private static Columns of(String[] header) {
+            Map<String, Integer> indexes = CsvReader.columnIndexes(header);
+            Columns columns = new Columns(indexes.get("setname"), indexes.get("number"), indexes.get("condition"),
+                    indexes.get("status"), indexes.get("purchaseprice"), indexes.get("memo"), indexes.get("createdat"));
+            if (columns.setName() == null) {
+                throw new IllegalArgumentException("헤더에 setName 컬럼이 없습니다. (첫 행: " + String.join(",", COLUMNS) + ")");
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * CSV 가져오기
+     * 파일 형식이 깨졌거나(닫히지 않은 따옴표 등) DB 오류가 나면 아무것도 추가하지 않습니다.
+     */
+    public CollectionImportResult importCsv(Long userId, InputStream input) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("존재하지 않는 유저입니다. (ID: " + userId + ")");
+        }
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        String[] header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        Columns columns = Columns.of(header);
+
+        long startedAt = System.currentTimeMillis();
+        CollectionImportResult result;
+        try {
+            result = transaction.execute(status -> importRows(userId, reader, columns));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (result.imported() > 0) {
+            collectionSummaryCache.evictUser(userId);
+            portfolioValuationService.evictUser(userId);
+        }
+        log.info("[COLLECTION] CSV 가져오기 완료 - User ID: {}, 행: {}, 추가: {}, 실패: {}, 소요: {}ms",
+                userId, result.rows(), result.imported(), result.failed(), System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    private CollectionImportResult importRows(Long userId, CsvReader reader, Columns columns) {
+        CardKeyIndex cards = CardKeyIndex.load(jdbcTemplate);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        List<String> errors = new ArrayList<>();
+        long rows = 0;
+        long imported = 0;
+        long failed = 0;
+
+        try {
+            String[] record;
+            while ((record = reader.next()) != null) {
+                rows++;
+                try {
+                    batch.add(toRow(userId, record, columns, cards, now));
+                } catch (IllegalArgumentException e) {
+                    failed++;
+                    if (errors.size() < maxErrors) {
+                        errors.add(reader.lineNumber() + "행: " + e.getMessage());
+                    }
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    imported += insert(batch);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        imported += insert(batch);
+        return new CollectionImportResult(rows, imported, failed, errors);
+    }
+
+    private int insert(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    /**
+     * CSV 한 행 -> INSERT 파라미터 (잘못된 값이면 IllegalArgumentException)
+     */
+    private Object[] toRow(Long userId, String[] record, Columns columns, CardKeyIndex cards, LocalDateTime now) {
+        String setName = value(record, columns.setName());
+        String number = value(record, columns.number());
+        if (setName == null) {
+            throw new IllegalArgumentException("세트 이름(setName)이 없습니다.");
+        }
+        Long cardId = cards.find(setName, number);
+        if (cardId == null) {
+            throw new IllegalArgumentException("카드를 찾을 수 없습니다. (" + setName + ", " + (number != null ? number : "") + ")");
+        }
+
+        CardCondition condition = CONDITIONS.parse(value(record, columns.condition()));
+        CollectionStatus status = STATUSES.parse(value(record, columns.status()));
+        BigDecimal purchasePrice = parsePurchasePrice(value(record, columns.purchasePrice()));
+        String memo = value(record, columns.memo());
+        if (memo != null && memo.length() > MAX_MEMO_LENGTH) {
+            throw new IllegalArgumentException("메모는 " + MAX_MEMO_LENGTH + "자 이하여야 합니다.");
+        }
+        LocalDateTime createdAt = parseCreatedAt(value(record, columns.createdAt()), now);
+
+        return new Object[]{
+                userId,
+                cardId,
+                condition != null ? condition.name() : null,
+                (status != null ? status : CollectionStatus.OWNED).name(), // 기본값: 보유중
+                purchasePrice,
+                memo,
+                Timestamp.valueOf(createdAt),
+                Timestamp.valueOf(now)
+        };
+    }
+
+    /**
+     * CSV 내보내기 (보유 카드를 오래된 순으로, 가져오기와 같은 컬럼)
+     * output은 닫지 않습니다.
+     */
+    public void exportCsv(Long userId, OutputStream output) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        CsvWriter writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        writer.writeBom();
+        writer.writeRow((Object[]) COLUMNS);
+
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(EXPORT_QUERY, (RowCallbackHandler) rs -> {
+                BigDecimal purchasePrice = rs.getBigDecimal(6);
+                Timestamp createdAt = rs.getTimestamp(8);
+                try {
+                    writer.writeRow(
+                            rs.getString(1),
+                            rs.getString(2),
+                            rs.getString(3),
+                            rs.getString(4),
+                            rs.getString(5),
+                            purchasePrice != null ? purchasePrice.toPlainString() : null,
+                            rs.getString(7),
+                            createdAt != null ? createdAt.toLocalDateTime() : null);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            }, userId);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("[COLLECTION] CSV 내보내기 완료 - User ID: {}, 행: {}, 소요: {}ms",
+                userId, count[0], System.currentTimeMillis() - startedAt);
+    }
+
+    private static String value(String[] record, Integer index) {
+        if (index == null || index >= record.length) {
+            return null;
+        }
+        String value = record[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal parsePurchasePrice(String value) {
+        if (value == null) {
+            return null;
+        }
+        BigDecimal price;
+        try {
+            price = new BigDecimal(value.replace(",", "")).setScale(2, RoundingMode.HALF_UP);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("구매 가격(purchasePrice) 형식이 올바르지 않습니다: " + value);
+        }
+        if (price.signum() < 0 || price.compareTo(MAX_PURCHASE_PRICE) > 0) {
+            throw new IllegalArgumentException("구매 가격(purchasePrice)은 0 이상 " + MAX_PURCHASE_PRICE.toPlainString() + " 이하여야 합니다.");
+        }
+        return price;
+    }
+
+    /**
+     * 수집한 날 (없으면 가져온 시각, 날짜만 있으면 그 날 0시)
+     */
+    private static LocalDateTime parseCreatedAt(String value, LocalDateTime now) {
+        if (value == null) {
+            return now;
+        }
+        LocalDateTime createdAt;
+        try {
+            createdAt = value.length() == 10
+                    ? LocalDate.parse(value).atStartOfDay()
+                    : LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("수집한 날(createdAt) 형식이 올바르지 않습니다: " + value + " (예: 2026-10-19 또는 2026-10-19T10:15:30)");
+        }
+        if (createdAt.isAfter(now)) {
+            throw new IllegalArgumentException("수집한 날(createdAt)이 미래입니다: " + value);
+        }
+        return createdAt;
+    }
+}
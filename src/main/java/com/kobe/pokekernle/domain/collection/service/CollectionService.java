@@ -3,8 +3,8 @@ package com.kobe.pokekernle.domain.collection.service;
 import com.kobe.pokekernle.domain.card.entity.Card;
 import com.kobe.pokekernle.domain.card.entity.MarketPrice;
 import com.kobe.pokekernle.domain.card.repository.CardRepository;
-import com.kobe.pokekernle.domain.card.repository.MarketPriceRepository;
 import com.kobe.pokekernle.domain.collection.dto.response.CollectionSummaryResponse;
+import com.kobe.pokekernle.domain.collection.dto.response.MyCollectionPage;
 import com.kobe.pokekernle.domain.collection.dto.response.MyCollectionResponse;
 import com.kobe.pokekernle.domain.collection.entity.CollectionStatus;
 import com.kobe.pokekernle.domain.collection.entity.UserCard;
@@ -12,16 +12,17 @@ import com.kobe.pokekernle.domain.collection.repository.UserCardRepository;
 import com.kobe.pokekernle.domain.collection.request.AddCollectionRequest;
 import com.kobe.pokekernle.domain.user.entity.User;
 import com.kobe.pokekernle.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * packageName    : com.kobe.pokekernle.domain.collection.service
@@ -33,56 +34,91 @@ import java.util.stream.Collectors;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 22.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       컬렉션 요약을 DB 집계 + 유저별 캐시로 변경 (누락되던 총 구매액 합산 수정)
+ * 2026. 10. 19.        kobe       카드 추가 시 평가액 추이 곡선 비움
+ * 2026. 10. 19.        kobe       보유 카드 목록을 키셋 페이지 조회로 변경 (카드/시세 함께 조회)
+ * 2026. 10. 19.        kobe       카드 추가 대상 유저를 임시 유저(ID 1) 대신 인자로 받음
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CollectionService {
 
     private final UserCardRepository userCardRepository;
     private final CardRepository cardRepository;
     private final UserRepository userRepository;
-    private final MarketPriceRepository marketPriceRepository;
+    private final CollectionSummaryCache collectionSummaryCache;
+    private final PortfolioValuationService portfolioValuationService;
+    private final int pageSize;
+
+    public CollectionService(UserCardRepository userCardRepository,
+                             CardRepository cardRepository,
+                             UserRepository userRepository,
+                             CollectionSummaryCache collectionSummaryCache,
+                             PortfolioValuationService portfolioValuationService,
+                             @Value("${app.collection.page-size:50}") int pageSize) {
+        this.userCardRepository = userCardRepository;
+        this.cardRepository = cardRepository;
+        this.userRepository = userRepository;
+        this.collectionSummaryCache = collectionSummaryCache;
+        this.portfolioValuationService = portfolioValuationService;
+        this.pageSize = Math.max(pageSize, 1);
+    }
 
+    /**
+     * 보유 카드 목록 한 페이지 (최신순 키셋 페이지네이션)
+     * 카드는 fetch join, 시세는 함께 조회하므로 페이지마다 쿼리 1번입니다.
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지면 null, 형식이 잘못되었으면 첫 페이지)
+     */
     @Transactional(readOnly = true)
-    public List<MyCollectionResponse> getMyCollection(Long userId) {
-        // 1. 내 카드 목록 조회
-        List<UserCard> myCards = userCardRepository.findAllByUserIdOrderByCreatedAtDesc(userId);
+    public MyCollectionPage getMyCollection(Long userId, String cursor) {
+        // 다음 페이지 여부를 알기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        Cursor after = Cursor.parse(cursor);
+        List<Object[]> rows = after == null
+                ? userCardRepository.findPageWithPrice(userId, limit)
+                : userCardRepository.findPageWithPriceAfter(userId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MyCollectionResponse> items = new ArrayList<>(Math.min(rows.size(), pageSize));
+        UserCard last = null;
+        for (int i = 0; i < rows.size() && i < pageSize; i++) {
+            last = (UserCard) rows.get(i)[0];
+            items.add(MyCollectionResponse.from(last, (MarketPrice) rows.get(i)[1]));
+        }
+
+        String nextCursor = hasNext ? new Cursor(last.getCreatedAt(), last.getId()).encode() : null;
+        return new MyCollectionPage(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 페이지 커서 (직전 페이지 마지막 항목의 등록 시각과 ID, "2026-10-19T10:15:30.123456_42" 형식)
+     */
+    private record Cursor(LocalDateTime createdAt, Long id) {
 
-        if (myCards.isEmpty()) {
-            return Collections.emptyList();
+        private String encode() {
+            return createdAt + "_" + id;
         }
 
-        // 2. 내 카드 목록에서 'Card' 엔티티만 추출
-        List<Card> cards = myCards.stream()
-                .map(UserCard::getCard)
-                .collect(Collectors.toList());
-
-        // 3. 해당 카드들의 시세 정보를 한 방에 조회 (쿼리 1번, IN절 사용)
-        List<MarketPrice> prices = marketPriceRepository.findAllByCardIn(cards);
-
-        // 4. 조회한 시세 리스트를 Map으로 변환 (Key: CardId, Value: MarketPrice)
-        // 이렇게 하면 나중에 O(1) 속도로 시세를 찾을 수 있습니다.
-        Map<Long, MarketPrice> priceMap = prices.stream()
-                .collect(Collectors.toMap(
-                        mp -> mp.getCard().getId(),         // Key
-                        Function.identity(),                                // Value (Marketprice 객체 자체)
-                        (p1, p2) -> p1       // (혹시 중복 키가 있다면 기존 것 사용)
-                ));
-
-        // 5. 메모리 상에서 매칭 (DB 조회 없음)
-        return myCards.stream().map(userCard -> {
-            // Map에서 꺼내기 (DB 접근 X, 메모리 접근 O)
-            MarketPrice marketPrice = priceMap.get(userCard.getCard().getId());
-
-            return MyCollectionResponse.from(userCard, marketPrice);
-        }).collect(Collectors.toList());
+        private static Cursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            int separator = value.lastIndexOf('_');
+            try {
+                return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                log.warn("[COLLECTION] 잘못된 페이지 커서 - {}", value);
+                return null;
+            }
+        }
     }
 
     @Transactional
-    public Long addCardToCollection(AddCollectionRequest request) {
-        // 1. 유저 조회(로그인 기능 전이라 ID 1번 유저 고정)
-        User user = userRepository.findById(1L)
-                .orElseThrow(() -> new IllegalArgumentException("임시 유저(ID: 1)가 없습니다. SQL을 실행해주세요."));
+    public Long addCardToCollection(Long userId, AddCollectionRequest request) {
+        // 1. 유저 조회 (로그인한 사용자)
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다. (ID: " + userId + ")"));
 
         // 2. 카드 조회
         Card card = cardRepository.findById(request.cardId())
@@ -98,42 +134,23 @@ public class CollectionService {
                 .memo(request.memo())
                 .build();
 
-        return userCardRepository.save(userCard).getId();
+        Long userCardId = userCardRepository.save(userCard).getId();
+        collectionSummaryCache.evictUser(user.getId());
+        portfolioValuationService.evictUser(user.getId());
+        return userCardId;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 컬렉션 요약 (총 구매액, 총 평가액, 손익)
+     * 캐시에 없을 때만 집계 쿼리 1번으로 계산합니다.
+     */
     public CollectionSummaryResponse getCollectionSummary(Long userId) {
-        // 1. 유저 카드 목록 조회
-        List<UserCard> myCards = userCardRepository.findAllByUserIdOrderByCreatedAtDesc(userId);
-
-        if (myCards.isEmpty()) {
-            return CollectionSummaryResponse.of(BigDecimal.ZERO, BigDecimal.ZERO);
-        }
-
-        // 2. 카드 엔티티 추출 및 시세 조회 (Map 최적화 사용)
-        List<Card> cards = myCards.stream().map(UserCard::getCard).collect(Collectors.toList());
-        List<MarketPrice> prices = marketPriceRepository.findAllByCardIn(cards);
-
-        Map<Long, MarketPrice> priceMap = prices.stream()
-                .collect(Collectors.toMap(mp -> mp.getCard().getId(), Function.identity(), (p1, p2) -> p1));
-
-        // 3. 총 구매액 & 총 평가액 합산
-        BigDecimal totalBuy = BigDecimal.ZERO;
-        BigDecimal totalCurr = BigDecimal.ZERO;
-
-        for (UserCard userCard : myCards) {
-            // 구매가 합산
-            if (userCard.getPurchasePrice() != null) {
-                totalBuy.add(userCard.getPurchasePrice());
-            }
-
-            // 현재가 합산
-            MarketPrice mp = priceMap.get(userCard.getCard().getId());
-            if (mp != null && mp.getPrice() != null) {
-                totalCurr = totalCurr.add(mp.getPrice());
-            }
-        }
-
-        return CollectionSummaryResponse.of(totalBuy, totalCurr);
+        return collectionSummaryCache.get(userId, () -> {
+            UserCardRepository.CollectionTotals totals = userCardRepository.sumByUserId(userId);
+            return CollectionSummaryResponse.of(
+                    totals.getCardCount() != null ? totals.getCardCount() : 0,
+                    totals.getTotalPurchase() != null ? totals.getTotalPurchase() : BigDecimal.ZERO,
+                    totals.getTotalMarketValue() != null ? totals.getTotalMarketValue() : BigDecimal.ZERO);
+        });
     }
 }
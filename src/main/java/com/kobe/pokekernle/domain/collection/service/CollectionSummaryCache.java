@@ -0,0 +1,99 @@
+package com.kobe.pokekernle.domain.collection.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kobe.pokekernle.domain.collection.dto.response.CollectionSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.collection.service
+ * fileName       : CollectionSummaryCache
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 유저별 컬렉션 요약(총 구매액/평가액/손익) 캐시
+ *                  보유 카드가 바뀌면 해당 유저만, 시세가 바뀌면 전체를 커밋 이후에 비웁니다.
+ *                  다른 서버에서 바뀐 내용은 만료 시간 이내에 반영됩니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Slf4j
+@Component
+public class CollectionSummaryCache {
+
+    private final Cache<Long, CollectionSummaryResponse> summaries;
+
+    // 무효화 횟수 (계산하는 사이 무효화되었으면 계산 결과를 캐시에 넣지 않기 위해 사용)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CollectionSummaryCache(@Value("${app.collection.summary-cache.max-users:10000}") long maxUsers,
+                                  @Value("${app.collection.summary-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시된 요약을 반환하고, 없으면 loader로 계산해서 캐시
+     */
+    public CollectionSummaryResponse get(Long userId, Supplier<CollectionSummaryResponse> loader) {
+        CollectionSummaryResponse cached = summaries.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long startInvalidations = invalidations.get();
+        CollectionSummaryResponse loaded = loader.get();
+        if (invalidations.get() == startInvalidations) {
+            summaries.put(userId, loaded);
+            // put 직후 무효화가 끼어들었을 수 있으므로 다시 확인
+            if (invalidations.get() != startInvalidations) {
+                summaries.invalidate(userId);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 유저의 보유 카드가 바뀐 경우 (트랜잭션 안이면 커밋 이후에 비움)
+     */
+    public void evictUser(Long userId) {
+        afterCommit(() -> {
+            invalidations.incrementAndGet();
+            summaries.invalidate(userId);
+        });
+    }
+
+    /**
+     * 시세가 바뀐 경우 (여러 유저에게 영향이 있으므로 전체를 비움)
+     */
+    public void evictAll() {
+        afterCommit(() -> {
+            invalidations.incrementAndGet();
+            summaries.invalidateAll();
+            log.debug("[COLLECTION] 컬렉션 요약 캐시 전체 비움");
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.kobe.pokekernle.domain.collection.service;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.collection.service
+ * fileName       : PortfolioCurve
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 유저 컬렉션의 일별 평가액 곡선 (날짜는 epochDay, 금액은 센트 단위 long)
+ *                  카드별 시세 기록은 다음 기록 전까지 같은 값으로 이어지고(forward-fill), 보유 카드는 수집한 날부터 더합니다.
+ *                  카드마다 "값이 바뀌는 날"에만 차이를 기록한 뒤 한 번 누적하므로 전체 날짜 x 카드 수만큼 돌지 않습니다.
+ *                  스레드 안전하지 않습니다. (PortfolioValuationService가 곡선 단위로 동기화)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class PortfolioCurve {
+
+    private final int startDay;
+    private final Map<Long, int[]> acquisitions; // 카드 ID -> 수집한 날 (정렬, 같은 카드를 여러 장 가지면 여러 개)
+    private long[] values;
+    private int endDay;
+
+    private PortfolioCurve(int startDay, int endDay, Map<Long, int[]> acquisitions, long[] values) {
+        this.startDay = startDay;
+        this.endDay = endDay;
+        this.acquisitions = acquisitions;
+        this.values = values;
+    }
+
+    /**
+     * 카드 한 장의 시세 기록 (변경 불가, 날짜 오름차순이며 날짜마다 하나)
+     */
+    public static final class PriceSeries {
+
+        public static final PriceSeries EMPTY = new PriceSeries(new int[0], new long[0]);
+
+        private final int[] days;
+        private final long[] cents;
+
+        public PriceSeries(int[] days, long[] cents) {
+            if (days.length != cents.length) {
+                throw new IllegalArgumentException("날짜와 가격 개수가 다릅니다.");
+            }
+            this.days = days;
+            this.cents = cents;
+        }
+
+        /**
+         * 해당 날짜의 시세 (그 날 기록이 없으면 직전 기록, 이전 기록이 없으면 0)
+         */
+        public long priceAt(int day) {
+            int index = Arrays.binarySearch(days, day);
+            if (index >= 0) {
+                return cents[index];
+            }
+            int previous = -index - 2;
+            return previous >= 0 ? cents[previous] : 0;
+        }
+
+        /**
+         * day 이후 첫 기록 날짜 (없으면 Integer.MAX_VALUE)
+         */
+        public int nextDayAfter(int day) {
+            int index = Arrays.binarySearch(days, day);
+            int next = index >= 0 ? index + 1 : -index - 1;
+            return next < days.length ? days[next] : Integer.MAX_VALUE;
+        }
+
+        /**
+         * 기록 하나를 더한(같은 날이면 바꾼) 새 시세 기록
+         */
+        public PriceSeries with(int day, long price) {
+            int index = Arrays.binarySearch(days, day);
+            if (index >= 0) {
+                long[] newCents = cents.clone();
+                newCents[index] = price;
+                return new PriceSeries(days, newCents);
+            }
+            int insertAt = -index - 1;
+            int[] newDays = new int[days.length + 1];
+            long[] newCents = new long[cents.length + 1];
+            System.arraycopy(days, 0, newDays, 0, insertAt);
+            System.arraycopy(cents, 0, newCents, 0, insertAt);
+            newDays[insertAt] = day;
+            newCents[insertAt] = price;
+            System.arraycopy(days, insertAt, newDays, insertAt + 1, days.length - insertAt);
+            System.arraycopy(cents, insertAt, newCents, insertAt + 1, cents.length - insertAt);
+            return new PriceSeries(newDays, newCents);
+        }
+    }
+
+    /**
+     * 곡선 계산
+     * endDay 이후의 시세 기록이나 수집한 날은 넣지 않아야 합니다. (extendTo는 마지막 값을 그대로 이어 붙임)
+     * @param acquisitions 카드 ID -> 수집한 날 목록 (정렬)
+     * @param series 카드 ID -> 시세 기록 (없으면 평가액 0)
+     */
+    public static PortfolioCurve build(int startDay, int endDay, Map<Long, int[]> acquisitions, Map<Long, PriceSeries> series) {
+        int length = Math.max(endDay - startDay + 1, 0);
+        long[] diff = new long[length + 1];
+        for (Map.Entry<Long, int[]> entry : acquisitions.entrySet()) {
+            PriceSeries prices = series.getOrDefault(entry.getKey(), PriceSeries.EMPTY);
+            addDifferences(diff, startDay, endDay, entry.getValue(), prices);
+        }
+        long[] values = new long[length];
+        long running = 0;
+        for (int i = 0; i < length; i++) {
+            running += diff[i];
+            values[i] = running;
+        }
+        return new PortfolioCurve(startDay, endDay, Map.copyOf(acquisitions), values);
+    }
+
+    /**
+     * 카드 한 장의 기여분(시세 x 보유 수)이 바뀌는 날에만 차이를 기록
+     */
+    private static void addDifferences(long[] diff, int startDay, int endDay, int[] acquired, PriceSeries prices) {
+        int held = 0;
+        int a = 0;
+        while (a < acquired.length && acquired[a] <= startDay) {
+            held++;
+            a++;
+        }
+        int p = 0;
+        while (p < prices.days.length && prices.days[p] <= startDay) {
+            p++;
+        }
+        long price = prices.priceAt(startDay);
+        long contribution = price * held;
+        diff[0] += contribution;
+
+        // 시세 기록 날짜와 수집한 날짜를 합쳐서 순서대로 방문
+        while (true) {
+            int nextPriceDay = p < prices.days.length ? prices.days[p] : Integer.MAX_VALUE;
+            int nextAcquiredDay = a < acquired.length ? acquired[a] : Integer.MAX_VALUE;
+            int day = Math.min(nextPriceDay, nextAcquiredDay);
+            if (day > endDay) {
+                return;
+            }
+            if (day == nextPriceDay) {
+                price = prices.cents[p++];
+            }
+            while (a < acquired.length && acquired[a] == day) {
+                held++;
+                a++;
+            }
+            long next = price * held;
+            diff[day - startDay] += next - contribution;
+            contribution = next;
+        }
+    }
+
+    /**
+     * 마지막 날 이후를 마지막 평가액으로 채움 (새 시세나 보유 변경이 없으면 값이 그대로 이어짐)
+     */
+    public void extendTo(int day) {
+        if (day <= endDay) {
+            return;
+        }
+        int oldLength = values.length;
+        long last = oldLength > 0 ? values[oldLength - 1] : 0;
+        values = Arrays.copyOf(values, day - startDay + 1);
+        Arrays.fill(values, oldLength, values.length, last);
+        endDay = day;
+    }
+
+    /**
+     * 카드 시세 기록이 oldSeries에서 newSeries(day 기록 추가/변경)로 바뀐 만큼 곡선을 보정
+     * day부터 다음 기록 전날까지만 시세가 달라지므로 그 구간만 고칩니다.
+     * @return 이 카드를 보유하지 않아 바뀐 것이 없으면 false
+     */
+    public boolean applyPriceChange(long cardId, int day, PriceSeries oldSeries, PriceSeries newSeries) {
+        int[] acquired = acquisitions.get(cardId);
+        if (acquired == null) {
+            return false;
+        }
+        long delta = newSeries.priceAt(day) - oldSeries.priceAt(day);
+        int from = Math.max(day, startDay);
+        int to = (int) Math.min((long) newSeries.nextDayAfter(day) - 1, endDay);
+        if (delta == 0 || from > to) {
+            return true;
+        }
+        int held = 0;
+        int a = 0;
+        for (int d = from; d <= to; d++) {
+            while (a < acquired.length && acquired[a] <= d) {
+                held++;
+                a++;
+            }
+            values[d - startDay] += delta * held;
+        }
+        return true;
+    }
+
+    public boolean holds(long cardId) {
+        return acquisitions.containsKey(cardId);
+    }
+
+    public int startDay() {
+        return startDay;
+    }
+
+    /**
+     * fromDay부터 마지막 날까지의 평가액 복사본
+     */
+    public long[] valuesFrom(int fromDay) {
+        int from = Math.max(fromDay - startDay, 0);
+        return from >= values.length ? new long[0] : Arrays.copyOfRange(values, from, values.length);
+    }
+}
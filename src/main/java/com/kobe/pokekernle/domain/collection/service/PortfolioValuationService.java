@@ -0,0 +1,283 @@
+package com.kobe.pokekernle.domain.collection.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kobe.pokekernle.domain.card.dto.response.PriceHistoryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.collection.service
+ * fileName       : PortfolioValuationService
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 유저 컬렉션 평가액 추이 (컬렉션 화면 차트용)
+ *                  카드별 시세 기록과 유저별 일별 곡선(PortfolioCurve)을 기본형 배열로 캐시합니다.
+ *                  새 시세가 기록되면 그 카드를 가진 곡선에서 바뀐 구간만 보정하고, 날짜가 지나면 마지막 값으로 이어 붙이므로
+ *                  캐시된 유저는 DB 조회 없이 배열 복사만으로 응답합니다.
+ *                  보유 카드가 바뀌면 해당 유저의 곡선만 다시 계산합니다.
+ *                  보정은 이 서버에서 기록한 시세만 반영하므로, 다른 서버의 변경은 캐시 항목을 주기적으로 다시 읽어 반영합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       시세/곡선 캐시를 주기적으로 다시 계산 (다른 서버의 변경 반영)
+ */
+@Slf4j
+@Service
+public class PortfolioValuationService {
+
+    private static final String HOLDINGS_QUERY = "select uc.card.id, uc.createdAt from UserCard uc where uc.user.id = :userId";
+    private static final String SERIES_QUERY = """
+            select ph.card.id, ph.recordedAt, ph.price from PriceHistory ph
+            where ph.card.id in :cardIds and ph.price is not null and ph.recordedAt <= :today
+            order by ph.card.id, ph.recordedAt, ph.id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final int days;
+    private final Cache<Long, PortfolioCurve.PriceSeries> seriesCache;
+    private final Cache<Long, PortfolioCurve> curveCache;
+
+    // 무효화/보정 횟수 (곡선을 계산하는 사이 시세나 보유 카드가 바뀌었으면 계산 결과를 캐시에 넣지 않기 위해 사용)
+    private final AtomicLong changes = new AtomicLong();
+
+    public PortfolioValuationService(PlatformTransactionManager transactionManager,
+                                     @Value("${app.collection.portfolio.days:365}") int days,
+                                     @Value("${app.collection.portfolio.max-cards:100000}") long maxCards,
+                                     @Value("${app.collection.portfolio.max-users:10000}") long maxUsers,
+                                     @Value("${app.collection.portfolio.idle-minutes:60}") long idleMinutes,
+                                     @Value("${app.collection.portfolio.reload-interval-seconds:600}") long reloadIntervalSeconds) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.days = Math.max(days, 1);
+        this.seriesCache = Caffeine.newBuilder()
+                .maximumSize(maxCards)
+                .expireAfterWrite(Duration.ofSeconds(reloadIntervalSeconds))
+                .build();
+        this.curveCache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .expireAfterWrite(Duration.ofSeconds(reloadIntervalSeconds))
+                .build();
+    }
+
+    /**
+     * 최근 N일 평가액 추이 (보유 카드가 없으면 빈 목록)
+     */
+    public List<PriceHistoryDto> getValueHistory(Long userId) {
+        int today = (int) LocalDate.now().toEpochDay();
+        PortfolioCurve curve = curveCache.getIfPresent(userId);
+        if (curve == null) {
+            curve = buildCurve(userId, today);
+        }
+
+        long[] values;
+        int fromDay;
+        synchronized (curve) {
+            curve.extendTo(today);
+            fromDay = Math.max(curve.startDay(), today - days + 1);
+            values = curve.valuesFrom(fromDay);
+        }
+
+        List<PriceHistoryDto> points = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            points.add(new PriceHistoryDto(LocalDate.ofEpochDay(fromDay + i),
+                    BigDecimal.valueOf(values[i], 2)));
+        }
+        return points;
+    }
+
+    /**
+     * 시세 기록이 추가된 경우 (트랜잭션 안이면 커밋 이후에 반영)
+     * 시세 기록이 캐시에 있으면 그 카드를 가진 곡선의 바뀐 구간만 보정하고, 없으면 그 카드를 가진 곡선을 비웁니다.
+     */
+    public void onPriceRecorded(Long cardId, LocalDate recordedAt, BigDecimal price) {
+        afterCommit(() -> applyPrice(cardId, (int) recordedAt.toEpochDay(), toCents(price)));
+    }
+
+    /**
+     * 유저의 보유 카드가 바뀐 경우 (트랜잭션 안이면 커밋 이후에 비움)
+     */
+    public void evictUser(Long userId) {
+        afterCommit(() -> {
+            changes.incrementAndGet();
+            curveCache.invalidate(userId);
+        });
+    }
+
+    /**
+     * 카드가 삭제된 경우 (여러 유저의 보유 카드가 바뀌므로 곡선 전체를 비움)
+     */
+    public void onCardDeleted(Long cardId) {
+        afterCommit(() -> {
+            changes.incrementAndGet();
+            seriesCache.invalidate(cardId);
+            curveCache.invalidateAll();
+        });
+    }
+
+    private synchronized void applyPrice(long cardId, int day, long cents) {
+        changes.incrementAndGet();
+        int today = (int) LocalDate.now().toEpochDay();
+        PortfolioCurve.PriceSeries oldSeries = seriesCache.getIfPresent(cardId);
+        if (oldSeries == null || day > today) {
+            // 미래 날짜 기록은 곡선에 미리 넣을 수 없으므로 캐시에서 빼고 다음 조회 때 다시 계산
+            seriesCache.invalidate(cardId);
+            curveCache.asMap().values().removeIf(curve -> curve.holds(cardId));
+            return;
+        }
+        PortfolioCurve.PriceSeries newSeries = oldSeries.with(day, cents);
+        seriesCache.put(cardId, newSeries);
+
+        int patched = 0;
+        for (PortfolioCurve curve : curveCache.asMap().values()) {
+            synchronized (curve) {
+                // 아직 이어 붙이지 않은 날짜도 보정되도록 먼저 채움
+                curve.extendTo(today);
+                if (curve.applyPriceChange(cardId, day, oldSeries, newSeries)) {
+                    patched++;
+                }
+            }
+        }
+        log.debug("[PORTFOLIO] 시세 반영 - Card ID: {}, 보정한 곡선: {}개", cardId, patched);
+    }
+
+    /**
+     * 보유 카드와 (캐시에 없는) 시세 기록을 읽어 곡선 계산
+     */
+    private PortfolioCurve buildCurve(Long userId, int today) {
+        long startChanges = changes.get();
+        Map<Long, int[]> acquisitions = new HashMap<>();
+        Map<Long, PortfolioCurve.PriceSeries> series = new HashMap<>();
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // 1. 보유 카드별 수집한 날
+            Map<Long, List<Integer>> acquiredDays = new HashMap<>();
+            for (Object[] row : entityManager.createQuery(HOLDINGS_QUERY, Object[].class)
+                    .setParameter("userId", userId)
+                    .getResultList()) {
+                LocalDateTime createdAt = (LocalDateTime) row[1];
+                int day = createdAt != null ? (int) createdAt.toLocalDate().toEpochDay() : today;
+                acquiredDays.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add(Math.min(day, today));
+            }
+            acquiredDays.forEach((cardId, list) -> {
+                int[] sorted = list.stream().mapToInt(Integer::intValue).toArray();
+                Arrays.sort(sorted);
+                acquisitions.put(cardId, sorted);
+            });
+
+            // 2. 시세 기록 (캐시에 없는 카드만 한 번에 조회)
+            List<Long> missing = new ArrayList<>();
+            for (Long cardId : acquisitions.keySet()) {
+                PortfolioCurve.PriceSeries cached = seriesCache.getIfPresent(cardId);
+                if (cached != null) {
+                    series.put(cardId, cached);
+                } else {
+                    missing.add(cardId);
+                }
+            }
+            if (!missing.isEmpty()) {
+                series.putAll(loadSeries(missing, today));
+            }
+        });
+
+        // 가장 먼저 수집한 날부터 (최대 N일 전까지)
+        int startDay = Math.max(today - days + 1, earliest(acquisitions, today));
+        PortfolioCurve curve = PortfolioCurve.build(startDay, today, acquisitions, series);
+
+        // 계산하는 사이 바뀐 내용이 있으면 이번 응답에만 사용
+        synchronized (this) {
+            if (changes.get() == startChanges) {
+                series.forEach((cardId, prices) -> seriesCache.asMap().putIfAbsent(cardId, prices));
+                curveCache.put(userId, curve);
+            }
+        }
+        return curve;
+    }
+
+    private Map<Long, PortfolioCurve.PriceSeries> loadSeries(List<Long> cardIds, int today) {
+        Map<Long, PortfolioCurve.PriceSeries> loaded = new HashMap<>();
+        List<Object[]> rows = entityManager.createQuery(SERIES_QUERY, Object[].class)
+                .setParameter("cardIds", cardIds)
+                .setParameter("today", LocalDate.ofEpochDay(today))
+                .getResultList();
+        int i = 0;
+        while (i < rows.size()) {
+            Long cardId = (Long) rows.get(i)[0];
+            int end = i;
+            while (end < rows.size() && cardId.equals(rows.get(end)[0])) {
+                end++;
+            }
+            // 같은 날 기록이 여러 개면 마지막(ID가 큰) 기록 사용
+            int[] days = new int[end - i];
+            long[] cents = new long[end - i];
+            int size = 0;
+            for (int r = i; r < end; r++) {
+                int day = (int) ((LocalDate) rows.get(r)[1]).toEpochDay();
+                long price = toCents((BigDecimal) rows.get(r)[2]);
+                if (size > 0 && days[size - 1] == day) {
+                    cents[size - 1] = price;
+                } else {
+                    days[size] = day;
+                    cents[size] = price;
+                    size++;
+                }
+            }
+            loaded.put(cardId, new PortfolioCurve.PriceSeries(Arrays.copyOf(days, size), Arrays.copyOf(cents, size)));
+            i = end;
+        }
+        for (Long cardId : cardIds) {
+            loaded.putIfAbsent(cardId, PortfolioCurve.PriceSeries.EMPTY);
+        }
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    private static int earliest(Map<Long, int[]> acquisitions, int today) {
+        int earliest = today;
+        for (int[] acquired : acquisitions.values()) {
+            earliest = Math.min(earliest, acquired[0]);
+        }
+        return earliest;
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,5 +21,8 @@ public class CreateNoticeRequest {
     private Boolean isActive = true;
 
     private Integer priority = 0;
-}
 
+    private LocalDateTime startsAt; // 게시 시작 시각 (없으면 바로 게시)
+
+    private LocalDateTime endsAt; // 게시 종료 시각 (없으면 종료 없음)
+}
@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,5 +18,8 @@ public class UpdateNoticeRequest {
     private Boolean isActive;
 
     private Integer priority;
-}
 
+    private LocalDateTime startsAt; // 게시 시작 시각 (없으면 바로 게시)
+
+    private LocalDateTime endsAt; // 게시 종료 시각 (없으면 종료 없음)
+}
@@ -18,6 +18,8 @@ public class NoticeResponse {
     private String content;
     private Boolean isActive;
     private Integer priority;
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -28,9 +30,17 @@ public class NoticeResponse {
                 .content(notice.getContent())
                 .isActive(notice.getIsActive())
                 .priority(notice.getPriority())
+                .startsAt(notice.getStartsAt())
+                .endsAt(notice.getEndsAt())
                 .createdAt(notice.getCreatedAt())
                 .updatedAt(notice.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * 주어진 시각에 게시 기간 안인지 여부 (활성화 여부는 보지 않음)
+     */
+    public boolean isInPeriod(LocalDateTime now) {
+        return (startsAt == null || !now.isBefore(startsAt)) && (endsAt == null || now.isBefore(endsAt));
+    }
+}
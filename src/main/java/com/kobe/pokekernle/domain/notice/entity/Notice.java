@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * 공지사항 엔티티
  */
@@ -32,18 +34,29 @@ public class Notice extends BaseTimeEntity {
     @Column(nullable = false)
     private Integer priority = 0; // 우선순위 (높을수록 먼저 표시)
 
+    private LocalDateTime startsAt; // 게시 시작 시각 (null이면 바로 게시)
+
+    private LocalDateTime endsAt; // 게시 종료 시각 (null이면 종료 없음)
+
     @Builder
-    public Notice(String title, String content, Boolean isActive, Integer priority) {
+    public Notice(String title, String content, Boolean isActive, Integer priority,
+                  LocalDateTime startsAt, LocalDateTime endsAt) {
+        validatePeriod(startsAt, endsAt);
         this.title = title;
         this.content = content;
         this.isActive = isActive != null ? isActive : true;
         this.priority = priority != null ? priority : 0;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
     }
 
     /**
      * 공지사항 수정
+     * 게시 기간은 항상 전달한 값으로 바꿉니다. (null이면 제한 없음)
      */
-    public void update(String title, String content, Boolean isActive, Integer priority) {
+    public void update(String title, String content, Boolean isActive, Integer priority,
+                       LocalDateTime startsAt, LocalDateTime endsAt) {
+        validatePeriod(startsAt, endsAt);
         if (title != null && !title.isBlank()) {
             this.title = title;
         }
@@ -56,6 +69,13 @@ public class Notice extends BaseTimeEntity {
         if (priority != null) {
             this.priority = priority;
         }
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
     }
-}
 
+    private static void validatePeriod(LocalDateTime startsAt, LocalDateTime endsAt) {
+        if (startsAt != null && endsAt != null && !endsAt.isAfter(startsAt)) {
+            throw new IllegalArgumentException("게시 종료 시각은 시작 시각보다 뒤여야 합니다.");
+        }
+    }
+}
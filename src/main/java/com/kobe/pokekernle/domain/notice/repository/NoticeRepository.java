@@ -2,14 +2,19 @@ package com.kobe.pokekernle.domain.notice.repository;
 
 import com.kobe.pokekernle.domain.notice.entity.Notice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
     /**
-     * 활성화된 공지사항 목록 조회 (우선순위 내림차순)
+     * 활성화되어 있고 게시 기간이 끝나지 않은 공지사항 목록 조회 (우선순위 내림차순, 게시 예정 포함)
      */
-    List<Notice> findByIsActiveTrueOrderByPriorityDescCreatedAtDesc();
+    @Query("SELECT n FROM Notice n WHERE n.isActive = true AND (n.endsAt IS NULL OR n.endsAt > :now) " +
+           "ORDER BY n.priority DESC, n.createdAt DESC")
+    List<Notice> findActiveNotEnded(@Param("now") LocalDateTime now);
 
     /**
      * 모든 공지사항 목록 조회 (우선순위 내림차순)
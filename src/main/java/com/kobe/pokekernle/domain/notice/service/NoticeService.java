@@ -5,29 +5,105 @@ import com.kobe.pokekernle.domain.notice.dto.request.UpdateNoticeRequest;
 import com.kobe.pokekernle.domain.notice.dto.response.NoticeResponse;
 import com.kobe.pokekernle.domain.notice.entity.Notice;
 import com.kobe.pokekernle.domain.notice.repository.NoticeRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * 공지사항 서비스
+ * 사용자 화면용 활성 공지사항은 메모리 스냅샷으로 제공하며, 생성/수정/삭제가 커밋되면 비우고 다음 조회 때 다시 읽습니다.
+ * 게시 기간(startsAt/endsAt)의 시작/종료는 스케줄러가 스냅샷 안에서만 다시 계산하므로 목록 화면은 공지사항을 조회하지 않습니다.
+ * (다른 서버에서 변경한 내용은 reload-interval 이내에 반영됩니다.)
+ */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class NoticeService {
 
     private final NoticeRepository noticeRepository;
+    private final long reloadIntervalSeconds;
+
+    private volatile ActiveNotices activeNotices; // null이면 다음 조회 때 다시 읽음
+    private long invalidations; // 무효화 횟수 (this로 동기화, 무효화 전에 시작한 조회 결과를 버리기 위해 사용)
+
+    public NoticeService(NoticeRepository noticeRepository,
+                         @Value("${app.notice.reload-interval-seconds:300}") long reloadIntervalSeconds) {
+        this.noticeRepository = noticeRepository;
+        this.reloadIntervalSeconds = reloadIntervalSeconds;
+    }
 
     /**
-     * 활성화된 공지사항 목록 조회 (사용자용)
+     * 활성 공지사항 스냅샷
+     * @param candidates 활성화되어 있고 게시 기간이 끝나지 않은 공지사항 (게시 예정 포함, 우선순위 순)
+     * @param visible 계산 시각 기준 게시 중인 공지사항
+     * @param nextChangeAt 다음으로 게시가 시작되거나 끝나는 시각 (없으면 null)
      */
+    private record ActiveNotices(List<NoticeResponse> candidates, List<NoticeResponse> visible,
+                                 LocalDateTime nextChangeAt, LocalDateTime loadedAt) {
+
+        private static ActiveNotices of(List<NoticeResponse> candidates, LocalDateTime now, LocalDateTime loadedAt) {
+            LocalDateTime nextChangeAt = null;
+            for (NoticeResponse notice : candidates) {
+                for (LocalDateTime boundary : new LocalDateTime[]{notice.getStartsAt(), notice.getEndsAt()}) {
+                    if (boundary != null && boundary.isAfter(now) && (nextChangeAt == null || boundary.isBefore(nextChangeAt))) {
+                        nextChangeAt = boundary;
+                    }
+                }
+            }
+            List<NoticeResponse> visible = candidates.stream()
+                    .filter(notice -> notice.isInPeriod(now))
+                    .toList();
+            return new ActiveNotices(candidates, visible, nextChangeAt, loadedAt);
+        }
+    }
+
+    /**
+     * 게시 중인 공지사항 목록 조회 (사용자용, 메모리 스냅샷)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<NoticeResponse> getActiveNotices() {
-        return noticeRepository.findByIsActiveTrueOrderByPriorityDescCreatedAtDesc().stream()
-                .map(NoticeResponse::from)
-                .collect(Collectors.toList());
+        ActiveNotices current = activeNotices;
+        if (current == null) {
+            current = reloadActiveNotices();
+        }
+        return current.visible();
+    }
+
+    /**
+     * 게시 기간 경계가 지났으면 스냅샷 안에서 게시 목록을 다시 계산하고, 오래된 스냅샷은 다시 읽음
+     */
+    @Scheduled(fixedDelayString = "${app.notice.period-check-interval-ms:30000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refreshActiveNotices() {
+        ActiveNotices current = activeNotices;
+        if (current == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (current.loadedAt().plusSeconds(reloadIntervalSeconds).isBefore(now)) {
+                reloadActiveNotices();
+            } else if (current.nextChangeAt() != null && !current.nextChangeAt().isAfter(now)) {
+                ActiveNotices recalculated = ActiveNotices.of(current.candidates(), now, current.loadedAt());
+                synchronized (this) {
+                    if (activeNotices == current) {
+                        activeNotices = recalculated;
+                    }
+                }
+                log.info("[NOTICE] 게시 기간 변경 반영 - 게시 중: {}건", recalculated.visible().size());
+            }
+        } catch (Exception e) {
+            log.error("[NOTICE] 공지사항 스냅샷 갱신 실패", e);
+        }
     }
 
     /**
@@ -58,9 +134,12 @@ public class NoticeService {
                 .content(request.getContent())
                 .isActive(request.getIsActive() != null ? request.getIsActive() : true)
                 .priority(request.getPriority() != null ? request.getPriority() : 0)
+                .startsAt(request.getStartsAt())
+                .endsAt(request.getEndsAt())
                 .build();
 
         Notice savedNotice = noticeRepository.save(notice);
+        invalidateActiveNoticesAfterCommit();
         log.info("[NOTICE] 공지사항 생성 - ID: {}, Title: {}", savedNotice.getId(), savedNotice.getTitle());
         return NoticeResponse.from(savedNotice);
     }
@@ -73,7 +152,9 @@ public class NoticeService {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다. ID: " + id));
 
-        notice.update(request.getTitle(), request.getContent(), request.getIsActive(), request.getPriority());
+        notice.update(request.getTitle(), request.getContent(), request.getIsActive(), request.getPriority(),
+                request.getStartsAt(), request.getEndsAt());
+        invalidateActiveNoticesAfterCommit();
         log.info("[NOTICE] 공지사항 수정 - ID: {}, Title: {}", notice.getId(), notice.getTitle());
         return NoticeResponse.from(notice);
     }
@@ -87,7 +168,52 @@ public class NoticeService {
                 .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다. ID: " + id));
 
         noticeRepository.delete(notice);
+        invalidateActiveNoticesAfterCommit();
         log.info("[NOTICE] 공지사항 삭제 - ID: {}", id);
     }
+
+    /**
+     * DB에서 활성 공지사항을 다시 읽어 스냅샷 교체
+     * 읽는 사이 무효화되었으면 읽은 결과는 이번 호출에만 쓰고 스냅샷에는 넣지 않음
+     */
+    private ActiveNotices reloadActiveNotices() {
+        long startInvalidations;
+        synchronized (this) {
+            startInvalidations = invalidations;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<NoticeResponse> candidates = noticeRepository.findActiveNotEnded(now).stream()
+                .map(NoticeResponse::from)
+                .toList();
+        ActiveNotices loaded = ActiveNotices.of(candidates, now, now);
+        synchronized (this) {
+            if (invalidations == startInvalidations) {
+                activeNotices = loaded;
+            }
+        }
+        log.debug("[NOTICE] 활성 공지사항 스냅샷 로드 - 후보: {}건, 게시 중: {}건", candidates.size(), loaded.visible().size());
+        return loaded;
+    }
+
+    /**
+     * 커밋된 뒤 스냅샷을 비움 (커밋 전에 비우면 다른 요청이 변경 전 데이터를 다시 담을 수 있음)
+     */
+    private void invalidateActiveNoticesAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateActiveNotices();
+                }
+            });
+        } else {
+            invalidateActiveNotices();
+        }
+    }
+
+    private synchronized void invalidateActiveNotices() {
+        invalidations++;
+        activeNotices = null;
+    }
 }
 
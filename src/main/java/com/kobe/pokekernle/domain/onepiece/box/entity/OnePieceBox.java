@@ -4,6 +4,7 @@ import com.kobe.pokekernle.domain.card.entity.CardCategory;
 import com.kobe.pokekernle.domain.collection.entity.CardCondition;
 import com.kobe.pokekernle.domain.collection.entity.CollectionStatus;
 import com.kobe.pokekernle.global.entity.BaseTimeEntity;
+import com.kobe.pokekernle.global.util.ImageVariants;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -20,6 +21,7 @@ import lombok.NoArgsConstructor;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2026. 1. 9.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       면별 이미지 파생 이미지(srcset) 정보 추가
  */
 @Entity
 @Getter
@@ -64,6 +66,9 @@ public class OnePieceBox extends BaseTimeEntity {
     @Column(length = 1000)
     private String bottomImageUrl; // 아랫면
 
+    @Column(length = 100)
+    private String imageVariants; // 면별 이미지의 파생 이미지 스펙 (6면 모두 같은 설정으로 함께 업로드됨, 예: jpg,webp:200,400,800)
+
     @Column(precision = 12, scale = 0)
     private Long salePrice; // 희망 판매 가격 (원화, KRW)
 
@@ -85,6 +90,7 @@ public class OnePieceBox extends BaseTimeEntity {
                        String rightImageUrl,
                        String topImageUrl,
                        String bottomImageUrl,
+                       String imageVariants,
                        Long salePrice,
                        Integer quantity,
                        CardCategory cardCategory) {
@@ -98,6 +104,7 @@ public class OnePieceBox extends BaseTimeEntity {
         this.rightImageUrl = rightImageUrl;
         this.topImageUrl = topImageUrl;
         this.bottomImageUrl = bottomImageUrl;
+        this.imageVariants = imageVariants;
         this.salePrice = salePrice;
         this.quantity = quantity != null ? quantity : 1; // 기본값 1
         this.cardCategory = cardCategory;
@@ -117,4 +124,12 @@ public class OnePieceBox extends BaseTimeEntity {
             default -> null;
         };
     }
+
+    /**
+     * 특정 면 이미지의 srcset (해당 형식의 파생 이미지가 없으면 null)
+     * @param format ImageVariants.JPEG 또는 ImageVariants.WEBP
+     */
+    public String getImageSrcset(String face, String format) {
+        return ImageVariants.srcset(getImageUrl(face), imageVariants, format);
+    }
 }
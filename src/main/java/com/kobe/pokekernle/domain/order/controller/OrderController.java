@@ -2,20 +2,26 @@ package com.kobe.pokekernle.domain.order.controller;
 
 import com.kobe.pokekernle.domain.order.dto.request.CreateOrderRequest;
 import com.kobe.pokekernle.domain.order.dto.response.OrderResponse;
+import com.kobe.pokekernle.domain.order.service.DropModeOrderException;
+import com.kobe.pokekernle.domain.order.service.FlashSaleService;
+import com.kobe.pokekernle.domain.order.service.IdempotencyKeyInProgressException;
+import com.kobe.pokekernle.domain.order.service.OrderIdempotencyService;
+import com.kobe.pokekernle.domain.order.service.OrderPendingException;
+import com.kobe.pokekernle.domain.order.service.OrderQueueFullException;
 import com.kobe.pokekernle.domain.order.service.OrderService;
-import com.kobe.pokekernle.domain.user.entity.User;
-import com.kobe.pokekernle.domain.user.repository.UserRepository;
+import com.kobe.pokekernle.global.config.security.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -23,33 +29,91 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderService orderService;
-    private final UserRepository userRepository;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final FlashSaleService flashSaleService;
 
     /**
-     * 현재 사용자 정보 가져오기
+     * 현재 사용자 ID 가져오기 (세션의 인증 정보에서 바로 꺼내므로 DB 조회 없음)
      */
-    private User getCurrentUser(Principal principal) {
-        if (principal == null) {
+    private Long getCurrentUserId(CustomUserDetails userDetails) {
+        if (userDetails == null) {
             throw new IllegalArgumentException("로그인이 필요합니다.");
         }
-        return userRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return userDetails.getId();
+    }
+
+    /**
+     * 주문 생성 응답 (Idempotency-Key 헤더가 있으면 같은 키의 재요청에 저장된 응답을 반환)
+     */
+    private ResponseEntity<?> createIdempotently(Long userId, String idempotencyKey, String scope,
+                                                 CreateOrderRequest request, Supplier<OrderResponse> action) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(action.get());
+        }
+        return created(orderIdempotencyService.execute(userId, idempotencyKey, scope, request, action));
+    }
+
+    /**
+     * 한정 판매 대기열 주문 응답 (멱등성 키는 대기열의 주문 트랜잭션에서 완료)
+     */
+    private ResponseEntity<?> createQueued(Long userId, String idempotencyKey, String scope, CreateOrderRequest request) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(flashSaleService.order(userId, request));
+        }
+        return created(orderIdempotencyService.executeQueued(userId, idempotencyKey, scope, request,
+                ticket -> flashSaleService.order(userId, request, ticket)));
+    }
+
+    private ResponseEntity<?> created(OrderIdempotencyService.Result result) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.response());
     }
 
     /**
      * 주문 생성 (바로 구매)
      */
     @PostMapping
-    public ResponseEntity<?> createOrder(@Valid @RequestBody CreateOrderRequest request, Principal principal) {
+    public ResponseEntity<?> createOrder(@Valid @RequestBody CreateOrderRequest request,
+                                         @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                         @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            User user = getCurrentUser(principal);
-            OrderResponse order = orderService.createOrder(user.getId(), request);
-            return ResponseEntity.status(HttpStatus.CREATED).body(order);
+            Long userId = getCurrentUserId(userDetails);
+            if (!flashSaleService.handles(request)) {
+                try {
+                    return createIdempotently(userId, idempotencyKey, "orders", request,
+                            () -> orderService.createOrder(userId, request));
+                } catch (DropModeOrderException e) {
+                    // 다른 서버에서 방금 드롭 모드로 바뀐 카드 (이 서버 목록은 주기적으로 갱신됨): 목록에 반영하고 대기열로 다시 처리
+                    flashSaleService.markDropMode(e.getCardId());
+                    if (!flashSaleService.handles(request)) {
+                        throw e; // 여러 카드를 함께 주문한 경우는 그대로 거절
+                    }
+                }
+            }
+            return createQueued(userId, idempotencyKey, "orders", request); // 한정 판매 카드는 카드별 대기열로 처리
+        } catch (OrderPendingException e) {
+            // 접수된 주문은 계속 처리됨 (같은 Idempotency-Key로 다시 요청하면 처리 완료 후 결과를 받음)
+            Map<String, String> response = new HashMap<>();
+            response.put("status", "PENDING");
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
         } catch (IllegalArgumentException e) {
             Map<String, String> response = new HashMap<>();
             response.put("message", e.getMessage());
             return ResponseEntity.badRequest().body(response);
+        } catch (IdempotencyKeyInProgressException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (OrderQueueFullException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
         } catch (Exception e) {
             log.error("[ORDER] 주문 생성 실패", e);
             Map<String, String> response = new HashMap<>();
@@ -62,15 +126,21 @@ public class OrderController {
      * 장바구니에서 주문 생성
      */
     @PostMapping("/from-cart")
-    public ResponseEntity<?> createOrderFromCart(@Valid @RequestBody CreateOrderRequest request, Principal principal) {
+    public ResponseEntity<?> createOrderFromCart(@Valid @RequestBody CreateOrderRequest request,
+                                                 @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                 @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            User user = getCurrentUser(principal);
-            OrderResponse order = orderService.createOrderFromCart(user.getId(), request);
-            return ResponseEntity.status(HttpStatus.CREATED).body(order);
+            Long userId = getCurrentUserId(userDetails);
+            return createIdempotently(userId, idempotencyKey, "orders/from-cart", request,
+                    () -> orderService.createOrderFromCart(userId, request));
         } catch (IllegalArgumentException e) {
             Map<String, String> response = new HashMap<>();
             response.put("message", e.getMessage());
             return ResponseEntity.badRequest().body(response);
+        } catch (IdempotencyKeyInProgressException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
         } catch (Exception e) {
             log.error("[ORDER] 장바구니에서 주문 생성 실패", e);
             Map<String, String> response = new HashMap<>();
@@ -83,10 +153,10 @@ public class OrderController {
      * 주문 조회
      */
     @GetMapping("/{orderId}")
-    public ResponseEntity<?> getOrder(@PathVariable Long orderId, Principal principal) {
+    public ResponseEntity<?> getOrder(@PathVariable Long orderId, @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            User user = getCurrentUser(principal);
-            OrderResponse order = orderService.getOrder(user.getId(), orderId);
+            Long userId = getCurrentUserId(userDetails);
+            OrderResponse order = orderService.getOrder(userId, orderId);
             return ResponseEntity.ok(order);
         } catch (IllegalArgumentException e) {
             Map<String, String> response = new HashMap<>();
@@ -104,10 +174,10 @@ public class OrderController {
      * 주문 목록 조회
      */
     @GetMapping
-    public ResponseEntity<?> getOrders(Principal principal) {
+    public ResponseEntity<?> getOrders(@AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
-            User user = getCurrentUser(principal);
-            List<OrderResponse> orders = orderService.getOrders(user.getId());
+            Long userId = getCurrentUserId(userDetails);
+            List<OrderResponse> orders = orderService.getOrders(userId);
             return ResponseEntity.ok(orders);
         } catch (IllegalArgumentException e) {
             Map<String, String> response = new HashMap<>();
@@ -1,5 +1,6 @@
 package com.kobe.pokekernle.domain.order.dto.response;
 
+import com.kobe.pokekernle.domain.order.entity.Order;
 import com.kobe.pokekernle.domain.order.entity.OrderStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -19,5 +21,30 @@ public class OrderResponse {
     private Long totalPrice;
     private OrderStatus status;
     private LocalDateTime createdAt;
+
+    /**
+     * Order 엔티티를 OrderResponse로 변환
+     */
+    public static OrderResponse from(Order order) {
+        List<OrderItemResponse> items = order.getOrderItems().stream()
+                .map(item -> OrderItemResponse.builder()
+                        .id(item.getId())
+                        .cardId(item.getCard().getId())
+                        .cardName(item.getCard().getName())
+                        .imageUrl(item.getCard().getDisplayImageUrl())
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .totalPrice(item.getTotalPrice())
+                        .build())
+                .collect(Collectors.toList());
+
+        return OrderResponse.builder()
+                .id(order.getId())
+                .items(items)
+                .totalPrice(order.getTotalPrice())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
 }
 
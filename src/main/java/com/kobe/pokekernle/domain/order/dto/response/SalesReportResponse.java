@@ -0,0 +1,60 @@
+package com.kobe.pokekernle.domain.order.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매 통계 응답 (관리자)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesReportResponse {
+    private Long lastOrderId; // 집계에 반영된 마지막 주문 ID
+    private LocalDateTime refreshedAt; // 마지막 집계 시각
+    private long orderCount;
+    private long unitCount;
+    private long revenue; // 총 매출 (원화)
+    private List<DailySales> daily; // 일별 매출 (오래된 날짜부터)
+    private List<CategorySales> categories; // 카테고리별 판매량
+    private List<CardSales> topSellers; // 판매량 상위 카드
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailySales {
+        private LocalDate date;
+        private long orderCount;
+        private long unitCount;
+        private long revenue;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategorySales {
+        private String category; // CardCategory 이름 (미분류는 UNCATEGORIZED)
+        private long unitCount;
+        private long revenue;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CardSales {
+        private Long cardId;
+        private String cardName;
+        private long unitCount;
+        private long revenue;
+    }
+}
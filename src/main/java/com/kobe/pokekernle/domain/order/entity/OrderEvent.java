@@ -0,0 +1,90 @@
+package com.kobe.pokekernle.domain.order.entity;
+
+import com.kobe.pokekernle.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 아웃박스 엔티티
+ * 주문과 같은 트랜잭션에서 기록되고, OrderEventDispatcher가 커밋 이후 비동기로 전달합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_events", indexes = {
+        @Index(name = "idx_order_event_status_next", columnList = "status, nextAttemptAt")
+})
+public class OrderEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private OrderEventType eventType; // 이벤트 종류
+
+    @Column(nullable = false)
+    private Long orderId; // 대상 주문 ID
+
+    @Column(nullable = false)
+    private Long userId; // 주문한 사용자 ID
+
+    @Column(columnDefinition = "TEXT")
+    private String payload; // 핸들러가 사용하는 부가 정보 (JSON)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderEventStatus status; // 전달 상태
+
+    @Column(nullable = false)
+    private Integer attempts = 0; // 전달 시도 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 전달 시도 가능 시각
+
+    private LocalDateTime lockedAt; // 워커가 처리를 시작한 시각 (PROCESSING 상태에서만 사용)
+
+    @Column(length = 1000)
+    private String lastError; // 마지막 실패 사유
+
+    @Builder
+    public OrderEvent(OrderEventType eventType, Long orderId, Long userId, String payload) {
+        this.eventType = eventType;
+        this.orderId = orderId;
+        this.userId = userId;
+        this.payload = payload;
+        this.status = OrderEventStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 전달 완료 처리
+     */
+    public void markDone() {
+        this.status = OrderEventStatus.DONE;
+        this.lockedAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 전달 실패 처리 (최대 횟수를 넘기면 FAILED, 아니면 재시도 대기)
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts = this.attempts + 1;
+        this.lockedAt = null;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = OrderEventStatus.FAILED;
+        } else {
+            this.status = OrderEventStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
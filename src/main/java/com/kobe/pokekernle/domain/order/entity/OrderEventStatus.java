@@ -0,0 +1,15 @@
+package com.kobe.pokekernle.domain.order.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderEventStatus {
+    PENDING("전달 대기"),
+    PROCESSING("처리 중"),
+    DONE("처리 완료"),
+    FAILED("처리 실패");
+
+    private final String description;
+}
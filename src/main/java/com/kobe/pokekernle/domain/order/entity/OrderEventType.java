@@ -0,0 +1,13 @@
+package com.kobe.pokekernle.domain.order.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderEventType {
+    ORDER_PLACED("주문 생성"),
+    CART_CHECKED_OUT("장바구니 주문 완료");
+
+    private final String description;
+}
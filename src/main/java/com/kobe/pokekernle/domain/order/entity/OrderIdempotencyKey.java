@@ -0,0 +1,92 @@
+package com.kobe.pokekernle.domain.order.entity;
+
+import com.kobe.pokekernle.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 멱등성 키 엔티티
+ * (사용자, Idempotency-Key) 당 하나의 주문 응답을 보관합니다. responseBody가 비어 있으면 처리 중인 요청입니다.
+ * 처리 중인 키는 lockedUntil까지만 선점이 유지되고, 그 뒤에는 재요청이 이어받을 수 있습니다. (처리 도중 서버가 죽은 경우)
+ * 응답은 주문과 같은 트랜잭션에서 저장되므로, 응답이 있으면 주문이 커밋된 것이고 없으면 커밋된 주문이 없습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_idempotency_user_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_order_idempotency_expires", columnList = "expires_at"))
+public class OrderIdempotencyKey extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey; // 클라이언트가 보낸 Idempotency-Key 헤더 값
+
+    @Column(nullable = false, length = 64)
+    private String requestHash; // 요청 본문 해시 (같은 키로 다른 요청을 보내는 경우 감지)
+
+    private Long orderId; // 생성된 주문 ID
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody; // 캐시된 OrderResponse (JSON)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 만료 시각 (TTL)
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil; // 처리 기한 (지나면 다른 요청이 이어받을 수 있음)
+
+    @Column(nullable = false)
+    private int attempt; // 선점 차수 (이어받을 때마다 증가, 이전 처리가 나중에 키를 완료하지 못하게 함)
+
+    @Builder
+    public OrderIdempotencyKey(Long userId, String idempotencyKey, String requestHash, LocalDateTime expiresAt, LocalDateTime lockedUntil) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+        this.lockedUntil = lockedUntil;
+    }
+
+    /**
+     * 처리 기한이 지난 키를 이어받음 (DB 반영은 Repository.takeOver로 원자적으로 수행)
+     */
+    public void lock(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+        this.attempt++;
+    }
+
+    /**
+     * 주문 처리 완료 후 응답 저장
+     */
+    public void complete(Long orderId, String responseBody) {
+        this.orderId = orderId;
+        this.responseBody = responseBody;
+    }
+
+    public boolean isCompleted() {
+        return responseBody != null;
+    }
+
+    /**
+     * 처리 중인데 처리 기한이 지났는지 여부 (기한이 없는 기존 키도 지난 것으로 봄)
+     */
+    public boolean isLockExpired(LocalDateTime now) {
+        return !isCompleted() && (lockedUntil == null || lockedUntil.isBefore(now));
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,10 @@
+package com.kobe.pokekernle.domain.order.event;
+
+import java.util.List;
+
+/**
+ * CART_CHECKED_OUT 이벤트 payload
+ * @param cardIds 주문된 카드 ID 목록 (장바구니에서 제거할 대상)
+ */
+public record CartCheckedOutPayload(List<Long> cardIds) {
+}
@@ -0,0 +1,38 @@
+package com.kobe.pokekernle.domain.order.event;
+
+import com.kobe.pokekernle.domain.cart.service.CartService;
+import com.kobe.pokekernle.domain.order.entity.OrderEvent;
+import com.kobe.pokekernle.domain.order.entity.OrderEventType;
+import com.kobe.pokekernle.domain.order.service.OrderEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장바구니 주문 완료 후 주문된 카드를 장바구니에서 제거
+ * 장바구니 전체를 비우지 않고 주문된 카드만 제거하므로, 주문 이후 새로 담은 아이템은 유지되고 재전달되어도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartCheckoutEventHandler implements OrderEventHandler {
+
+    private final CartService cartService;
+    private final OrderEventService orderEventService;
+
+    @Override
+    public boolean supports(OrderEventType eventType) {
+        return eventType == OrderEventType.CART_CHECKED_OUT;
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        CartCheckedOutPayload payload = orderEventService.readPayload(event, CartCheckedOutPayload.class);
+        if (payload.cardIds() == null || payload.cardIds().isEmpty()) {
+            return;
+        }
+        cartService.removeCards(event.getUserId(), payload.cardIds());
+        log.info("[ORDER EVENT] 장바구니 정리 완료 - Order ID: {}, User ID: {}, Cards: {}",
+                event.getOrderId(), event.getUserId(), payload.cardIds().size());
+    }
+}
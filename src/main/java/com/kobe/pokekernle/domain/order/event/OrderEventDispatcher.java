@@ -0,0 +1,103 @@
+package com.kobe.pokekernle.domain.order.event;
+
+import com.kobe.pokekernle.domain.order.entity.OrderEvent;
+import com.kobe.pokekernle.domain.order.service.OrderEventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 주문 이벤트 디스패처
+ * order_events 테이블을 주기적으로 폴링하여 PENDING 이벤트를 선점하고,
+ * 크기가 제한된 워커 풀에서 등록된 OrderEventHandler들에게 전달합니다.
+ */
+@Slf4j
+@Component
+public class OrderEventDispatcher {
+
+    private final OrderEventService orderEventService;
+    private final List<OrderEventHandler> handlers;
+    private final TaskExecutor orderEventExecutor;
+    private final Semaphore inFlight;
+
+    @Value("${app.order.events.processing-timeout-seconds:300}")
+    private long processingTimeoutSeconds;
+
+    @Value("${app.order.events.retention-days:7}")
+    private long retentionDays;
+
+    public OrderEventDispatcher(OrderEventService orderEventService,
+                                List<OrderEventHandler> handlers,
+                                @Qualifier("orderEventExecutor") TaskExecutor orderEventExecutor,
+                                @Value("${app.order.events.max-in-flight:64}") int maxInFlight) {
+        this.orderEventService = orderEventService;
+        this.handlers = handlers;
+        this.orderEventExecutor = orderEventExecutor;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * 전달 가능한 이벤트를 워커 풀의 여유만큼만 가져와 전달
+     */
+    @Scheduled(fixedDelayString = "${app.order.events.poll-interval-ms:1000}")
+    public void poll() {
+        List<Long> dueIds = orderEventService.findDueIds(inFlight.availablePermits());
+        for (Long eventId : dueIds) {
+            if (!inFlight.tryAcquire()) {
+                break;
+            }
+            try {
+                orderEventExecutor.execute(() -> {
+                    try {
+                        dispatch(eventId);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                log.warn("[ORDER EVENT] 워커 풀 제출 실패 - Event ID: {}", eventId, e);
+                break;
+            }
+        }
+    }
+
+    /**
+     * 중단된 이벤트 복구 및 완료 이벤트 정리
+     */
+    @Scheduled(fixedDelayString = "${app.order.events.maintenance-interval-ms:60000}")
+    public void maintain() {
+        int released = orderEventService.releaseStale(LocalDateTime.now().minusSeconds(processingTimeoutSeconds));
+        if (released > 0) {
+            log.warn("[ORDER EVENT] 처리 중단 이벤트 재전달 대기 처리 - {}건", released);
+        }
+        orderEventService.purgeDone(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    private void dispatch(Long eventId) {
+        OrderEvent event = orderEventService.claim(eventId).orElse(null);
+        if (event == null) {
+            return; // 다른 워커가 이미 처리 중
+        }
+
+        try {
+            for (OrderEventHandler handler : handlers) {
+                if (handler.supports(event.getEventType())) {
+                    handler.handle(event);
+                }
+            }
+            orderEventService.complete(eventId);
+        } catch (Exception e) {
+            log.warn("[ORDER EVENT] 전달 실패 - Event ID: {}, Type: {}, Order ID: {}",
+                    eventId, event.getEventType(), event.getOrderId(), e);
+            orderEventService.fail(eventId, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+}
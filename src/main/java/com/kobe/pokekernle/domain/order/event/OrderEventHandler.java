@@ -0,0 +1,15 @@
+package com.kobe.pokekernle.domain.order.event;
+
+import com.kobe.pokekernle.domain.order.entity.OrderEvent;
+import com.kobe.pokekernle.domain.order.entity.OrderEventType;
+
+/**
+ * 주문 이벤트 핸들러
+ * 디스패처는 최소 한 번(at-least-once) 전달하므로 같은 이벤트가 여러 번 들어와도 결과가 같도록 구현해야 합니다.
+ */
+public interface OrderEventHandler {
+
+    boolean supports(OrderEventType eventType);
+
+    void handle(OrderEvent event) throws Exception;
+}
@@ -0,0 +1,25 @@
+package com.kobe.pokekernle.domain.order.event;
+
+import com.kobe.pokekernle.domain.order.entity.OrderEvent;
+import com.kobe.pokekernle.domain.order.entity.OrderEventType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성 이벤트 로깅 (알림, 재고 분석 등 후속 처리는 같은 방식으로 핸들러를 추가)
+ */
+@Slf4j
+@Component
+public class OrderPlacedLogHandler implements OrderEventHandler {
+
+    @Override
+    public boolean supports(OrderEventType eventType) {
+        return eventType == OrderEventType.ORDER_PLACED;
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        log.info("[ORDER EVENT] 주문 생성 - Order ID: {}, User ID: {}, Payload: {}",
+                event.getOrderId(), event.getUserId(), event.getPayload());
+    }
+}
@@ -0,0 +1,44 @@
+package com.kobe.pokekernle.domain.order.repository;
+
+import com.kobe.pokekernle.domain.order.entity.OrderEvent;
+import com.kobe.pokekernle.domain.order.entity.OrderEventStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderEventRepository extends JpaRepository<OrderEvent, Long> {
+
+    /**
+     * 전달 가능한 이벤트 ID 목록 조회 (오래된 순)
+     */
+    @Query("SELECT e.id FROM OrderEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDueIds(@Param("status") OrderEventStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이벤트 선점 (PENDING -> PROCESSING). 다른 워커/인스턴스가 먼저 가져갔으면 0을 반환합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderEvent e SET e.status = com.kobe.pokekernle.domain.order.entity.OrderEventStatus.PROCESSING, e.lockedAt = :now " +
+            "WHERE e.id = :id AND e.status = com.kobe.pokekernle.domain.order.entity.OrderEventStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 도중 중단된 이벤트를 다시 PENDING으로 되돌림 (at-least-once 보장)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderEvent e SET e.status = com.kobe.pokekernle.domain.order.entity.OrderEventStatus.PENDING, e.lockedAt = null " +
+            "WHERE e.status = com.kobe.pokekernle.domain.order.entity.OrderEventStatus.PROCESSING AND e.lockedAt < :staleBefore")
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 처리 완료된 오래된 이벤트 정리
+     */
+    @Modifying
+    @Query("DELETE FROM OrderEvent e WHERE e.status = com.kobe.pokekernle.domain.order.entity.OrderEventStatus.DONE AND e.updatedAt < :before")
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
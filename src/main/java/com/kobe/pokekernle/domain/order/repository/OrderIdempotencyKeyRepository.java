@@ -0,0 +1,50 @@
+package com.kobe.pokekernle.domain.order.repository;
+
+import com.kobe.pokekernle.domain.order.entity.OrderIdempotencyKey;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+
+    Optional<OrderIdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    /**
+     * 주문 트랜잭션에서 키 행 잠금 (키 완료를 주문과 같은 트랜잭션으로 커밋하기 위해 사용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM OrderIdempotencyKey k WHERE k.id = :id")
+    Optional<OrderIdempotencyKey> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 처리 기한이 지난 처리 중 키를 이어받음 (여러 요청이 동시에 시도해도 한 요청만 1을 받음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderIdempotencyKey k SET k.lockedUntil = :lockedUntil, k.attempt = k.attempt + 1 " +
+            "WHERE k.id = :id AND k.responseBody IS NULL AND (k.lockedUntil IS NULL OR k.lockedUntil < :now)")
+    int takeOver(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 실패한 요청의 선점 해제 (그 사이 다른 요청이 이어받았거나 완료된 키는 지우지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.id = :id AND k.attempt = :attempt AND k.responseBody IS NULL")
+    int release(@Param("id") Long id, @Param("attempt") int attempt);
+
+    /**
+     * 만료된 키 정리
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,7 +1,6 @@
 package com.kobe.pokekernle.domain.order.repository;
 
 import com.kobe.pokekernle.domain.order.entity.Order;
-import com.kobe.pokekernle.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,7 +8,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    List<Order> findByUserOrderByCreatedAtDesc(User user);
+    List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
     
     @Query("SELECT o FROM Order o JOIN FETCH o.orderItems WHERE o.id = :orderId")
     Order findByIdWithItems(@Param("orderId") Long orderId);
@@ -0,0 +1,19 @@
+package com.kobe.pokekernle.domain.order.service;
+
+/**
+ * 한정 판매(드롭 모드) 카드를 일반 주문 경로로 주문한 경우 (400)
+ * 바로 구매는 컨트롤러가 이 예외를 받으면 카드별 대기열로 다시 처리합니다.
+ */
+public class DropModeOrderException extends IllegalArgumentException {
+
+    private final Long cardId;
+
+    public DropModeOrderException(Long cardId, String message) {
+        super(message);
+        this.cardId = cardId;
+    }
+
+    public Long getCardId() {
+        return cardId;
+    }
+}
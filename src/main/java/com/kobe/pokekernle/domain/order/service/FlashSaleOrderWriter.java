@@ -0,0 +1,140 @@
+package com.kobe.pokekernle.domain.order.service;
+
+import com.kobe.pokekernle.domain.card.entity.Card;
+import com.kobe.pokekernle.domain.card.repository.CardRepository;
+import com.kobe.pokekernle.domain.order.dto.request.CreateOrderRequest;
+import com.kobe.pokekernle.domain.order.dto.response.OrderResponse;
+import com.kobe.pokekernle.domain.order.entity.Order;
+import com.kobe.pokekernle.domain.order.entity.OrderIdempotencyKey;
+import com.kobe.pokekernle.domain.order.entity.OrderEventType;
+import com.kobe.pokekernle.domain.order.entity.OrderItem;
+import com.kobe.pokekernle.domain.order.entity.OrderStatus;
+import com.kobe.pokekernle.domain.order.repository.OrderRepository;
+import com.kobe.pokekernle.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한정 판매 주문 일괄 기록기
+ * 카드 한 장에 쌓인 구매 요청을 한 트랜잭션에서 처리합니다. (카드 행 잠금은 배치당 한 번)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FlashSaleOrderWriter {
+
+    private final CardRepository cardRepository;
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final OrderEventService orderEventService;
+    private final OrderIdempotencyService orderIdempotencyService;
+
+    /**
+     * 구매 요청
+     * @param ticket 멱등성 키 선점 티켓 (Idempotency-Key 없이 요청했으면 null)
+     */
+    public record Purchase(Long userId, CreateOrderRequest request, int quantity, OrderIdempotencyService.Ticket ticket) {
+    }
+
+    /**
+     * 배치 처리 결과
+     * @param orders 요청 순서와 같은 순서의 주문 결과 (실패한 요청은 null)
+     * @param claimFailed 멱등성 키를 다른 요청이 이어받아 처리하지 않은 요청의 순번 (재고 차감 없음)
+     * @param remainingQuantity 배치 처리 후 남은 재고
+     */
+    public record BatchResult(List<OrderResponse> orders, Set<Integer> claimFailed, int remainingQuantity) {
+    }
+
+    /**
+     * 도착 순서대로 재고를 차감하고 주문을 생성
+     */
+    @Transactional
+    public BatchResult write(Long cardId, List<Purchase> purchases) {
+        Card card = cardRepository.findByIdForUpdate(cardId)
+                .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다. ID: " + cardId));
+
+        if (card.getSalePrice() == null || card.getSalePrice() == 0) {
+            throw new IllegalArgumentException("판매 가격이 설정되지 않은 카드입니다: " + card.getName());
+        }
+
+        List<Order> orders = new ArrayList<>(purchases.size());
+        List<Order> placed = new ArrayList<>(purchases.size());
+        List<OrderIdempotencyKey> keys = new ArrayList<>(purchases.size());
+        Set<Integer> claimFailed = new HashSet<>();
+        for (int i = 0; i < purchases.size(); i++) {
+            Purchase purchase = purchases.get(i);
+            // 멱등성 키는 주문과 같은 트랜잭션에서 완료 (다른 요청이 이어받은 키는 건너뜀)
+            OrderIdempotencyKey key = null;
+            if (purchase.ticket() != null) {
+                key = orderIdempotencyService.claim(purchase.ticket());
+                if (key == null) {
+                    orders.add(null);
+                    keys.add(null);
+                    claimFailed.add(i);
+                    continue;
+                }
+            }
+
+            int remaining = card.getQuantity() != null ? card.getQuantity() : 0;
+            if (remaining < purchase.quantity()) {
+                orders.add(null);
+                keys.add(null);
+                continue;
+            }
+
+            CreateOrderRequest request = purchase.request();
+            long totalPrice = card.getSalePrice() * purchase.quantity();
+            Order order = Order.builder()
+                    .user(userRepository.getReferenceById(purchase.userId()))
+                    .status(OrderStatus.PENDING)
+                    .totalPrice(totalPrice)
+                    .recipientName(request.getRecipientName())
+                    .recipientPhone(request.getRecipientPhone())
+                    .deliveryAddress(request.getDeliveryAddress())
+                    .deliveryMemo(request.getDeliveryMemo())
+                    .paymentMethod(request.getPaymentMethod())
+                    .build();
+            order.addItem(OrderItem.builder()
+                    .order(order)
+                    .card(card)
+                    .quantity(purchase.quantity())
+                    .unitPrice(card.getSalePrice())
+                    .totalPrice(totalPrice)
+                    .build());
+
+            card.decreaseQuantity(purchase.quantity());
+            orders.add(order);
+            keys.add(key);
+            placed.add(order);
+        }
+
+        orderRepository.saveAll(placed);
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            if (order == null) {
+                responses.add(null);
+                continue;
+            }
+            orderEventService.publish(OrderEventType.ORDER_PLACED, order.getId(), purchases.get(i).userId(),
+                    Map.of("totalPrice", order.getTotalPrice(), "itemCount", 1));
+            OrderResponse response = OrderResponse.from(order);
+            if (keys.get(i) != null) {
+                orderIdempotencyService.complete(keys.get(i), response);
+            }
+            responses.add(response);
+        }
+
+        log.debug("[FLASH_SALE] 배치 처리 - Card ID: {}, 요청: {}건, 주문: {}건, 남은 재고: {}",
+                cardId, purchases.size(), placed.size(), card.getQuantity());
+        return new BatchResult(responses, claimFailed, card.getQuantity() != null ? card.getQuantity() : 0);
+    }
+}
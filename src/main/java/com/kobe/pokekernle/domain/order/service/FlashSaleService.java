@@ -0,0 +1,279 @@
+package com.kobe.pokekernle.domain.order.service;
+
+import com.kobe.pokekernle.domain.card.entity.Card;
+import com.kobe.pokekernle.domain.card.repository.CardRepository;
+import com.kobe.pokekernle.domain.order.dto.request.CreateOrderRequest;
+import com.kobe.pokekernle.domain.order.dto.response.OrderResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 한정 판매(드롭) 주문 접수 서비스
+ * 드롭 모드 카드의 바로 구매 요청은 카드별 대기열에 쌓이고, 카드마다 한 번에 하나의 작업만
+ * 대기열을 비우며 배치 단위로 재고를 차감합니다. 같은 카드 행을 두고 요청끼리 경합하지 않습니다.
+ */
+@Service
+@Slf4j
+public class FlashSaleService {
+
+    private static final String SOLD_OUT_MESSAGE = "품절되었습니다.";
+
+    private final CardRepository cardRepository;
+    private final FlashSaleOrderWriter orderWriter;
+    private final TaskExecutor executor;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long waitTimeoutMs;
+    private final long soldOutRecheckMs;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private volatile Set<Long> dropCardIds = Set.of();
+
+    public FlashSaleService(CardRepository cardRepository,
+                            FlashSaleOrderWriter orderWriter,
+                            @Qualifier("flashSaleExecutor") TaskExecutor executor,
+                            @Value("${app.order.flash-sale.queue-capacity:1000}") int queueCapacity,
+                            @Value("${app.order.flash-sale.batch-size:100}") int batchSize,
+                            @Value("${app.order.flash-sale.wait-timeout-ms:10000}") long waitTimeoutMs,
+                            @Value("${app.order.flash-sale.sold-out-recheck-ms:1000}") long soldOutRecheckMs) {
+        this.cardRepository = cardRepository;
+        this.orderWriter = orderWriter;
+        this.executor = executor;
+        this.queueCapacity = Math.max(queueCapacity, 1);
+        this.batchSize = Math.max(batchSize, 1);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.soldOutRecheckMs = soldOutRecheckMs;
+    }
+
+    /**
+     * 카드별 대기열
+     */
+    private final class Lane {
+        private final Long cardId;
+        private final BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile long soldOutUntil; // 품절 확인 후 이 시각까지는 대기열에 넣지 않고 바로 거절
+
+        private Lane(Long cardId) {
+            this.cardId = cardId;
+        }
+    }
+
+    private record Pending(FlashSaleOrderWriter.Purchase purchase, CompletableFuture<OrderResponse> future) {
+    }
+
+    /**
+     * 드롭 모드 카드 목록 갱신 (다른 서버에서 바꾼 설정도 주기적으로 반영)
+     */
+    @Scheduled(fixedDelayString = "${app.order.flash-sale.refresh-interval-ms:30000}")
+    public void refreshDropCards() {
+        Set<Long> ids = Set.copyOf(cardRepository.findDropModeIds());
+        synchronized (this) {
+            dropCardIds = ids;
+        }
+        lanes.entrySet().removeIf(entry -> !ids.contains(entry.getKey()) && entry.getValue().queue.isEmpty());
+    }
+
+    /**
+     * 이 요청이 한정 판매 대기열로 처리되는지 여부 (드롭 모드 카드 한 종류만 담긴 주문)
+     */
+    public boolean handles(CreateOrderRequest request) {
+        return request.getItems() != null
+                && request.getItems().size() == 1
+                && dropCardIds.contains(request.getItems().get(0).getCardId());
+    }
+
+    /**
+     * 한정 판매 주문 (처리 결과가 나올 때까지 대기)
+     * 대기 시간이 초과되어도 접수된 요청은 취소되지 않으므로 주문 내역에서 결과를 확인할 수 있습니다.
+     * @throws OrderPendingException 대기 시간 안에 처리가 끝나지 않은 경우 (결과는 예외의 future로 전달)
+     */
+    public OrderResponse order(Long userId, CreateOrderRequest request) {
+        return order(userId, request, null);
+    }
+
+    /**
+     * 한정 판매 주문 (멱등성 키 티켓이 있으면 주문 트랜잭션에서 키를 완료)
+     */
+    public OrderResponse order(Long userId, CreateOrderRequest request, OrderIdempotencyService.Ticket ticket) {
+        CompletableFuture<OrderResponse> future = submit(userId, request, ticket);
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("한정 판매 주문 처리 중 오류가 발생했습니다.", cause);
+        } catch (TimeoutException e) {
+            throw new OrderPendingException("주문이 접수되어 처리 중입니다. 잠시 후 주문 내역을 확인해주세요.", future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderPendingException("주문이 접수되어 처리 중입니다. 잠시 후 주문 내역을 확인해주세요.", future);
+        }
+    }
+
+    /**
+     * 한정 판매 주문 접수
+     * 대기열이 가득 찼거나 최근에 품절이 확인된 카드는 대기열에 넣지 않고 바로 실패합니다.
+     */
+    public CompletableFuture<OrderResponse> submit(Long userId, CreateOrderRequest request, OrderIdempotencyService.Ticket ticket) {
+        CreateOrderRequest.OrderItemRequest item = request.getItems().get(0);
+        if (item.getQuantity() == null || item.getQuantity() < 1) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다."));
+        }
+
+        Lane lane = lanes.computeIfAbsent(item.getCardId(), Lane::new);
+        if (lane.soldOutUntil > System.currentTimeMillis()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(SOLD_OUT_MESSAGE));
+        }
+
+        Pending pending = new Pending(new FlashSaleOrderWriter.Purchase(userId, request, item.getQuantity(), ticket), new CompletableFuture<>());
+        if (!lane.queue.offer(pending)) {
+            return CompletableFuture.failedFuture(new OrderQueueFullException());
+        }
+        schedule(lane);
+        return pending.future();
+    }
+
+    /**
+     * 드롭 모드 전환 (관리자)
+     */
+    @Transactional
+    public void changeDropMode(Long cardId, boolean enabled) {
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카드입니다. ID=" + cardId));
+        card.changeDropMode(enabled);
+
+        // 주문 경로 목록은 커밋된 뒤에만 바꿈 (롤백되면 DB와 어긋나지 않도록)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateDropCard(cardId, enabled);
+                onStockChanged(cardId);
+                log.info("[FLASH_SALE] 드롭 모드 {} - Card ID: {}", enabled ? "켜짐" : "꺼짐", cardId);
+            }
+        });
+    }
+
+    /**
+     * 다른 서버에서 드롭 모드로 바뀐 카드를 바로 구매에서 발견한 경우 (주기 갱신 전까지 기다리지 않고 목록에 반영)
+     */
+    public void markDropMode(Long cardId) {
+        updateDropCard(cardId, true);
+    }
+
+    private synchronized void updateDropCard(Long cardId, boolean enabled) {
+        Set<Long> ids = new HashSet<>(dropCardIds);
+        if (enabled) {
+            ids.add(cardId);
+        } else {
+            ids.remove(cardId);
+        }
+        dropCardIds = Set.copyOf(ids);
+    }
+
+    /**
+     * 재고가 바뀌면 품절 표시를 해제 (관리자 재고 수정 등)
+     */
+    public void onStockChanged(Long cardId) {
+        Lane lane = lanes.get(cardId);
+        if (lane != null) {
+            lane.soldOutUntil = 0;
+        }
+    }
+
+    private void schedule(Lane lane) {
+        if (!lane.draining.compareAndSet(false, true)) {
+            return; // 이미 이 카드의 대기열을 비우는 작업이 있음
+        }
+        try {
+            executor.execute(() -> drain(lane));
+        } catch (TaskRejectedException e) {
+            lane.draining.set(false);
+            failQueued(lane, new OrderQueueFullException());
+        }
+    }
+
+    /**
+     * 대기열에서 한 배치를 꺼내 처리하고, 남은 요청이 있으면 다시 예약
+     * (한 카드가 작업 스레드를 독점하지 않도록 배치마다 양보)
+     */
+    private void drain(Lane lane) {
+        try {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            lane.queue.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                write(lane, batch);
+            }
+        } finally {
+            lane.draining.set(false);
+            if (!lane.queue.isEmpty()) {
+                schedule(lane);
+            }
+        }
+    }
+
+    private void write(Lane lane, List<Pending> batch) {
+        List<FlashSaleOrderWriter.Purchase> purchases = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            purchases.add(pending.purchase());
+        }
+
+        FlashSaleOrderWriter.BatchResult result;
+        try {
+            result = orderWriter.write(lane.cardId, purchases);
+        } catch (Exception e) {
+            if (!(e instanceof IllegalArgumentException)) {
+                log.error("[FLASH_SALE] 배치 처리 실패 - Card ID: {}, 요청: {}건", lane.cardId, batch.size(), e);
+            }
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+
+        if (result.remainingQuantity() <= 0) {
+            lane.soldOutUntil = System.currentTimeMillis() + soldOutRecheckMs;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            OrderResponse order = result.orders().get(i);
+            if (result.claimFailed().contains(i)) {
+                batch.get(i).future().completeExceptionally(new IdempotencyKeyInProgressException());
+            } else if (order != null) {
+                batch.get(i).future().complete(order);
+            } else {
+                batch.get(i).future().completeExceptionally(new IllegalArgumentException(
+                        result.remainingQuantity() <= 0 ? SOLD_OUT_MESSAGE
+                                : "재고가 부족합니다. (요청: " + purchases.get(i).quantity() + "개, 재고: " + result.remainingQuantity() + "개)"));
+            }
+        }
+    }
+
+    private void failQueued(Lane lane, RuntimeException e) {
+        Pending pending;
+        while ((pending = lane.queue.poll()) != null) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+}
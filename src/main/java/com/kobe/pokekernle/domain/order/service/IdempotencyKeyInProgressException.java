@@ -0,0 +1,11 @@
+package com.kobe.pokekernle.domain.order.service;
+
+/**
+ * 같은 Idempotency-Key의 요청이 아직 처리 중인 경우 (컨트롤러는 409로 응답)
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException() {
+        super("동일한 주문 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,129 @@
+package com.kobe.pokekernle.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kobe.pokekernle.domain.order.entity.OrderEvent;
+import com.kobe.pokekernle.domain.order.entity.OrderEventStatus;
+import com.kobe.pokekernle.domain.order.entity.OrderEventType;
+import com.kobe.pokekernle.domain.order.repository.OrderEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문 이벤트 아웃박스 서비스
+ * - publish: 주문 트랜잭션 안에서 이벤트를 기록 (주문과 함께 커밋/롤백)
+ * - claim/complete/fail: 디스패처가 이벤트 상태를 전이할 때 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class OrderEventService {
+
+    private final OrderEventRepository orderEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.order.events.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.order.events.retry-backoff-seconds:5}")
+    private long retryBackoffSeconds;
+
+    /**
+     * 이벤트 기록 (호출한 쪽의 트랜잭션에 참여해야 하므로 MANDATORY)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OrderEventType eventType, Long orderId, Long userId, Map<String, Object> payload) {
+        OrderEvent event = OrderEvent.builder()
+                .eventType(eventType)
+                .orderId(orderId)
+                .userId(userId)
+                .payload(writePayload(payload))
+                .build();
+        orderEventRepository.save(event);
+    }
+
+    /**
+     * 전달 가능한 이벤트 ID 조회
+     */
+    public List<Long> findDueIds(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return orderEventRepository.findDueIds(OrderEventStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 이벤트 선점 후 반환 (다른 워커가 먼저 선점했다면 empty)
+     */
+    @Transactional
+    public Optional<OrderEvent> claim(Long eventId) {
+        if (orderEventRepository.claim(eventId, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        return orderEventRepository.findById(eventId);
+    }
+
+    @Transactional
+    public void complete(Long eventId) {
+        orderEventRepository.findById(eventId).ifPresent(OrderEvent::markDone);
+    }
+
+    @Transactional
+    public void fail(Long eventId, String error) {
+        orderEventRepository.findById(eventId).ifPresent(event -> {
+            // 시도 횟수에 비례해 재시도 간격을 늘림
+            long delay = retryBackoffSeconds * (event.getAttempts() + 1);
+            event.markFailed(error, LocalDateTime.now().plusSeconds(delay), maxAttempts);
+            if (event.getStatus() == OrderEventStatus.FAILED) {
+                log.error("[ORDER EVENT] 최대 재시도 초과 - Event ID: {}, Type: {}, Order ID: {}, Error: {}",
+                        eventId, event.getEventType(), event.getOrderId(), error);
+            }
+        });
+    }
+
+    /**
+     * 처리 중 상태로 오래 남아있는 이벤트를 재전달 대상으로 되돌림 (워커/인스턴스 비정상 종료 대비)
+     */
+    @Transactional
+    public int releaseStale(LocalDateTime staleBefore) {
+        return orderEventRepository.releaseStale(staleBefore);
+    }
+
+    @Transactional
+    public int purgeDone(LocalDateTime before) {
+        return orderEventRepository.deleteDoneBefore(before);
+    }
+
+    /**
+     * payload(JSON) 읽기
+     */
+    public <T> T readPayload(OrderEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트 payload를 읽을 수 없습니다. Event ID: " + event.getId(), e);
+        }
+    }
+
+    private String writePayload(Map<String, Object> payload) {
+        if (payload == null || payload.isEmpty()) {
+            return "{}";
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트 payload를 생성할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.kobe.pokekernle.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kobe.pokekernle.domain.order.dto.response.OrderResponse;
+import com.kobe.pokekernle.domain.order.entity.OrderIdempotencyKey;
+import com.kobe.pokekernle.domain.order.repository.OrderIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성 멱등성 처리 서비스
+ * - Idempotency-Key 당 최초 1회만 주문을 생성하고, 재요청에는 저장된 OrderResponse를 그대로 돌려줍니다.
+ * - 최근 응답은 크기가 제한된 메모리 캐시(LRU)에서, 나머지는 order_idempotency_keys 테이블에서 찾습니다.
+ * - (사용자, 키) 유니크 제약으로 인스턴스가 여러 대여도 같은 키의 주문은 한 번만 실행됩니다.
+ * - 키 완료(주문 ID, 응답)는 주문과 같은 트랜잭션으로 커밋되므로, 처리 중으로 남은 키에는 커밋된 주문이 없습니다.
+ * - 처리 중인 키는 처리 기한(lockedUntil)까지만 선점되며, 처리 도중 서버가 죽어 기한이 지나면 재요청이 이어받습니다.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final long ttlHours;
+    private final long processingTimeoutSeconds;
+    private final TransactionTemplate writeTransaction;
+    private final Map<String, CachedResponse> cache;
+
+    public OrderIdempotencyService(OrderIdempotencyKeyRepository idempotencyKeyRepository,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.order.idempotency.ttl-hours:24}") long ttlHours,
+                                   @Value("${app.order.idempotency.processing-timeout-seconds:300}") long processingTimeoutSeconds,
+                                   @Value("${app.order.idempotency.max-cached-entries:10000}") int maxCachedEntries) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.ttlHours = ttlHours;
+        this.processingTimeoutSeconds = processingTimeoutSeconds;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxCachedEntries;
+            }
+        });
+    }
+
+    /**
+     * 멱등성 키로 주문 생성 실행
+     * 주문 생성과 키 완료(주문 ID, 응답 저장)를 한 트랜잭션으로 커밋하므로, 주문이 커밋되었는데 키가 처리 중으로 남는 일이 없습니다.
+     * @param userId 사용자 ID
+     * @param idempotencyKey Idempotency-Key 헤더 값
+     * @param scope 요청 구분 (엔드포인트별로 다른 값 사용)
+     * @param request 요청 본문 (같은 키로 다른 요청을 보냈는지 검사하는 데 사용)
+     * @param action 실제 주문 생성 로직 (이 메서드가 연 트랜잭션에 참여해야 함)
+     * @throws IllegalArgumentException 키 형식이 잘못되었거나 같은 키로 다른 요청을 보낸 경우
+     * @throws IdempotencyKeyInProgressException 같은 키의 요청이 아직 처리 중인 경우
+     */
+    public Result execute(Long userId, String idempotencyKey, String scope, Object request, Supplier<OrderResponse> action) {
+        Begin begin = begin(userId, idempotencyKey, scope, request);
+        if (begin.replay() != null) {
+            return begin.replay();
+        }
+
+        // 3. 최초 요청이므로 실제 주문 생성 (키 행을 잠근 트랜잭션 안에서 주문을 만들고 같은 트랜잭션에서 키 완료)
+        Ticket ticket = begin.ticket();
+        OrderResponse response;
+        try {
+            response = writeTransaction.execute(status -> {
+                OrderIdempotencyKey locked = claim(ticket);
+                if (locked == null) {
+                    throw new IdempotencyKeyInProgressException();
+                }
+                OrderResponse created = action.get();
+                complete(locked, created);
+                return created;
+            });
+        } catch (RuntimeException e) {
+            // 롤백되었으므로 같은 키로 다시 시도할 수 있도록 선점 해제 (다른 요청이 이어받은 키는 건드리지 않음)
+            releaseQuietly(ticket);
+            throw e;
+        }
+
+        cache.put(begin.cacheKey(), new CachedResponse(begin.requestHash(), response, begin.expiresAt()));
+        return new Result(response, false);
+    }
+
+    /**
+     * 멱등성 키로 대기열 주문 실행 (한정 판매)
+     * 주문은 다른 스레드의 트랜잭션에서 만들어지므로, action은 주문 트랜잭션 안에서 claim/complete로 키를 직접 완료해야 합니다.
+     * @param action 티켓을 받아 주문을 접수하고 결과를 기다리는 로직
+     * @throws OrderPendingException 주문이 접수되었지만 아직 처리 중인 경우 (키는 선점된 채로 남고, 주문 트랜잭션이 키를 완료함)
+     */
+    public Result executeQueued(Long userId, String idempotencyKey, String scope, Object request, Function<Ticket, OrderResponse> action) {
+        Begin begin = begin(userId, idempotencyKey, scope, request);
+        if (begin.replay() != null) {
+            return begin.replay();
+        }
+
+        Ticket ticket = begin.ticket();
+        OrderResponse response;
+        try {
+            response = action.apply(ticket);
+        } catch (OrderPendingException e) {
+            // 접수된 주문은 계속 처리되며 키는 주문 트랜잭션에서 완료됨 (실패하면 그때 선점 해제)
+            e.getFuture().whenComplete((completed, error) -> {
+                if (error == null) {
+                    cache.put(begin.cacheKey(), new CachedResponse(begin.requestHash(), completed, begin.expiresAt()));
+                } else {
+                    releaseQuietly(ticket);
+                }
+            });
+            throw e;
+        } catch (RuntimeException e) {
+            releaseQuietly(ticket);
+            throw e;
+        }
+
+        cache.put(begin.cacheKey(), new CachedResponse(begin.requestHash(), response, begin.expiresAt()));
+        return new Result(response, false);
+    }
+
+    /**
+     * 주문 트랜잭션 안에서 키 행을 잠그고 아직 이 티켓의 것인지 확인
+     * @return 다른 요청이 이어받았거나 이미 완료된 키면 null
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OrderIdempotencyKey claim(Ticket ticket) {
+        return idempotencyKeyRepository.findByIdForUpdate(ticket.keyId())
+                .filter(locked -> !locked.isCompleted() && locked.getAttempt() == ticket.attempt())
+                .orElse(null);
+    }
+
+    /**
+     * claim으로 잠근 키에 주문 결과 기록 (주문과 같은 트랜잭션으로 커밋됨)
+     */
+    public void complete(OrderIdempotencyKey locked, OrderResponse response) {
+        locked.complete(response.getId(), writeResponse(response));
+    }
+
+    /**
+     * 만료된 키 정리 (DB + 메모리 캐시)
+     */
+    @Scheduled(fixedDelayString = "${app.order.idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = idempotencyKeyRepository.deleteExpired(now);
+        synchronized (cache) {
+            cache.values().removeIf(cached -> cached.expiresAt().isBefore(now));
+        }
+        if (deleted > 0) {
+            log.info("[ORDER] 만료된 멱등성 키 정리 - {}건", deleted);
+        }
+    }
+
+    private Reservation reserve(Long userId, String key, String requestHash, LocalDateTime now, boolean retryIfExpired) {
+        try {
+            OrderIdempotencyKey entry = idempotencyKeyRepository.saveAndFlush(OrderIdempotencyKey.builder()
+                    .userId(userId)
+                    .idempotencyKey(key)
+                    .requestHash(requestHash)
+                    .expiresAt(now.plusHours(ttlHours))
+                    .lockedUntil(now.plusSeconds(processingTimeoutSeconds))
+                    .build());
+            return new Reservation(entry, true);
+        } catch (DataIntegrityViolationException e) {
+            OrderIdempotencyKey existing = idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, key)
+                    .orElseThrow(() -> new IdempotencyKeyInProgressException());
+            if (existing.isExpired(now) && retryIfExpired) {
+                idempotencyKeyRepository.delete(existing);
+                return reserve(userId, key, requestHash, now, false);
+            }
+            return new Reservation(existing, false);
+        }
+    }
+
+    /**
+     * 1~2단계: 캐시/DB에서 완료된 응답을 찾고, 없으면 키를 선점 (처리 기한이 지난 키는 이어받음)
+     */
+    private Begin begin(Long userId, String idempotencyKey, String scope, Object request) {
+        String key = validateKey(idempotencyKey);
+        String requestHash = hash(scope, request);
+        String cacheKey = userId + ":" + key;
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 메모리 캐시 확인 (DB 접근 없음)
+        CachedResponse cached = cache.get(cacheKey);
+        if (cached != null && !cached.expiresAt().isBefore(now)) {
+            verifySameRequest(cached.requestHash(), requestHash);
+            return Begin.replay(new Result(cached.response(), true));
+        }
+
+        // 2. DB에 키 선점 (이미 있으면 기존 결과 사용)
+        Reservation reservation = reserve(userId, key, requestHash, now, true);
+        OrderIdempotencyKey entry = reservation.entry();
+        if (!reservation.created()) {
+            verifySameRequest(entry.getRequestHash(), requestHash);
+            if (!entry.isCompleted() && !takeOver(entry, now)) {
+                // 이어받지 못했으면 그 사이 완료되었을 수 있으므로 다시 읽음 (완료된 키에는 주문이 연결되어 있음)
+                entry = idempotencyKeyRepository.findById(entry.getId())
+                        .filter(OrderIdempotencyKey::isCompleted)
+                        .orElseThrow(() -> new IdempotencyKeyInProgressException());
+            }
+            if (entry.isCompleted()) {
+                OrderResponse response = readResponse(entry.getResponseBody());
+                cache.put(cacheKey, new CachedResponse(requestHash, response, entry.getExpiresAt()));
+                return Begin.replay(new Result(response, true));
+            }
+        }
+        return new Begin(null, new Ticket(entry.getId(), entry.getAttempt()), cacheKey, requestHash, entry.getExpiresAt());
+    }
+
+    /**
+     * 처리 기한이 지난 키를 이어받음
+     * 키 완료는 주문과 같은 트랜잭션이므로, 처리 중으로 남은 키에는 커밋된 주문이 없어 다시 실행해도 주문이 중복되지 않습니다.
+     */
+    private boolean takeOver(OrderIdempotencyKey entry, LocalDateTime now) {
+        if (!entry.isLockExpired(now)) {
+            return false;
+        }
+        LocalDateTime lockedUntil = now.plusSeconds(processingTimeoutSeconds);
+        if (idempotencyKeyRepository.takeOver(entry.getId(), now, lockedUntil) == 0) {
+            return false; // 다른 요청이 먼저 이어받았거나 그 사이 처리가 끝남
+        }
+        entry.lock(lockedUntil);
+        log.warn("[ORDER] 처리 기한이 지난 멱등성 키 이어받음 - User ID: {}, Key: {}", entry.getUserId(), entry.getIdempotencyKey());
+        return true;
+    }
+
+    private void releaseQuietly(Ticket ticket) {
+        try {
+            idempotencyKeyRepository.release(ticket.keyId(), ticket.attempt());
+        } catch (Exception e) {
+            log.warn("[ORDER] 멱등성 키 선점 해제 실패 - Key ID: {}", ticket.keyId(), e);
+        }
+    }
+
+    private String validateKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("Idempotency-Key가 비어 있습니다.");
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        return key;
+    }
+
+    private void verifySameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key로 다른 주문 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private String hash(String scope, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(scope.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("요청 해시를 계산할 수 없습니다.", e);
+        }
+    }
+
+    private String writeResponse(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private OrderResponse readResponse(String body) {
+        try {
+            return objectMapper.readValue(body, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 주문 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 멱등성 처리 결과
+     * @param response 주문 응답
+     * @param replayed 저장된 응답을 재사용했는지 여부
+     */
+    public record Result(OrderResponse response, boolean replayed) {
+    }
+
+    /**
+     * 선점한 키 (주문 트랜잭션에서 claim할 때 사용)
+     * @param keyId 키 행 ID
+     * @param attempt 선점 차수 (이어받을 때마다 증가하므로 이전 처리는 claim에 실패함)
+     */
+    public record Ticket(Long keyId, int attempt) {
+    }
+
+    private record Reservation(OrderIdempotencyKey entry, boolean created) {
+    }
+
+    private record Begin(Result replay, Ticket ticket, String cacheKey, String requestHash, LocalDateTime expiresAt) {
+
+        private static Begin replay(Result result) {
+            return new Begin(result, null, null, null, null);
+        }
+    }
+
+    private record CachedResponse(String requestHash, OrderResponse response, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.kobe.pokekernle.domain.order.service;
+
+import com.kobe.pokekernle.domain.order.dto.response.OrderResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 주문이 접수되었지만 응답 대기 시간 안에 처리가 끝나지 않은 경우
+ * 접수된 주문은 취소되지 않고 계속 처리되며, 결과는 future로 전달됩니다. (컨트롤러는 202로 응답)
+ */
+public class OrderPendingException extends RuntimeException {
+
+    private final transient CompletableFuture<OrderResponse> future;
+
+    public OrderPendingException(String message, CompletableFuture<OrderResponse> future) {
+        super(message);
+        this.future = future;
+    }
+
+    public CompletableFuture<OrderResponse> getFuture() {
+        return future;
+    }
+}
@@ -0,0 +1,11 @@
+package com.kobe.pokekernle.domain.order.service;
+
+/**
+ * 한정 판매 대기열이 가득 차서 주문을 접수하지 못한 경우 (컨트롤러는 503으로 응답, 잠시 후 다시 시도)
+ */
+public class OrderQueueFullException extends RuntimeException {
+
+    public OrderQueueFullException() {
+        super("주문이 몰리고 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -4,13 +4,12 @@ import com.kobe.pokekernle.domain.card.entity.Card;
 import com.kobe.pokekernle.domain.card.repository.CardRepository;
 import com.kobe.pokekernle.domain.cart.service.CartService;
 import com.kobe.pokekernle.domain.order.dto.request.CreateOrderRequest;
-import com.kobe.pokekernle.domain.order.dto.response.OrderItemResponse;
 import com.kobe.pokekernle.domain.order.dto.response.OrderResponse;
 import com.kobe.pokekernle.domain.order.entity.Order;
+import com.kobe.pokekernle.domain.order.entity.OrderEventType;
 import com.kobe.pokekernle.domain.order.entity.OrderItem;
 import com.kobe.pokekernle.domain.order.entity.OrderStatus;
 import com.kobe.pokekernle.domain.order.repository.OrderRepository;
-import com.kobe.pokekernle.domain.user.entity.User;
 import com.kobe.pokekernle.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,18 +30,17 @@ public class OrderService {
     private final CardRepository cardRepository;
     private final UserRepository userRepository;
     private final CartService cartService;
+    private final OrderEventService orderEventService;
 
     /**
      * 주문 생성 (바로 구매)
      */
     @Transactional
     public OrderResponse createOrder(Long userId, CreateOrderRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
+        // 인증 정보의 사용자 ID를 그대로 참조 (사용자 조회 쿼리 없음)
         long totalPrice = 0;
         Order order = Order.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .status(OrderStatus.PENDING)
                 .totalPrice(0L) // 나중에 업데이트
                 .recipientName(request.getRecipientName())
@@ -56,6 +55,11 @@ public class OrderService {
             Card card = cardRepository.findById(itemRequest.getCardId())
                     .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다. ID: " + itemRequest.getCardId()));
 
+            // 한정 판매 카드는 FlashSaleService의 카드별 대기열로만 판매 (재고 행 경합 방지)
+            if (card.isDropMode()) {
+                throw new DropModeOrderException(card.getId(), "한정 판매 카드는 바로 구매로 단독 주문해주세요: " + card.getName());
+            }
+
             if (card.getSalePrice() == null || card.getSalePrice() == 0) {
                 throw new IllegalArgumentException("판매 가격이 설정되지 않은 카드입니다: " + card.getName());
             }
@@ -78,7 +82,7 @@ public class OrderService {
 
             // 주문 생성 후 재고 차감
             card.decreaseQuantity(itemRequest.getQuantity());
-            log.info("[ORDER] 재고 차감 - Card ID: {}, Card Name: {}, 차감 수량: {}, 남은 재고: {}", 
+            log.debug("[ORDER] 재고 차감 - Card ID: {}, Card Name: {}, 차감 수량: {}, 남은 재고: {}", 
                 card.getId(), card.getName(), itemRequest.getQuantity(), card.getQuantity());
         }
 
@@ -86,9 +90,12 @@ public class OrderService {
         order.updateTotalPrice(totalPrice);
 
         order = orderRepository.save(order);
-        log.info("[ORDER] 주문 생성 - Order ID: {}, User ID: {}, Total Price: {}", order.getId(), userId, totalPrice);
 
-        return toResponse(order);
+        // 후속 처리(로깅, 알림 등)는 아웃박스에 기록하고 커밋 이후 비동기로 처리
+        orderEventService.publish(OrderEventType.ORDER_PLACED, order.getId(), userId,
+                Map.of("totalPrice", totalPrice, "itemCount", order.getOrderItems().size()));
+
+        return OrderResponse.from(order);
     }
 
     /**
@@ -96,6 +103,8 @@ public class OrderService {
      */
     @Transactional
     public OrderResponse createOrderFromCart(Long userId, CreateOrderRequest request) {
+        // 메모리 장바구니의 변경분을 먼저 DB에 저장 (체크아웃 시점 기준으로 장바구니 정리가 이뤄지도록)
+        cartService.flush(userId);
         var cart = cartService.getCart(userId);
         
         if (cart.getItems().isEmpty()) {
@@ -122,10 +131,15 @@ public class OrderService {
         }
 
         OrderResponse orderResponse = createOrder(userId, request);
-        
-        // 주문 성공 시 장바구니 비우기
-        cartService.clearCart(userId);
-        
+
+        // 주문 성공 시 장바구니 정리는 아웃박스를 통해 커밋 이후 처리 (주문된 카드만 제거)
+        List<Long> orderedCardIds = request.getItems().stream()
+                .map(CreateOrderRequest.OrderItemRequest::getCardId)
+                .distinct()
+                .collect(Collectors.toList());
+        orderEventService.publish(OrderEventType.CART_CHECKED_OUT, orderResponse.getId(), userId,
+                Map.of("cardIds", orderedCardIds));
+
         return orderResponse;
     }
 
@@ -140,44 +154,15 @@ public class OrderService {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
 
-        return toResponse(order);
+        return OrderResponse.from(order);
     }
 
     /**
      * 사용자의 주문 목록 조회
      */
     public List<OrderResponse> getOrders(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        return orderRepository.findByUserOrderByCreatedAtDesc(user).stream()
-                .map(this::toResponse)
+        return orderRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(OrderResponse::from)
                 .collect(Collectors.toList());
     }
-
-    /**
-     * Order 엔티티를 OrderResponse로 변환
-     */
-    private OrderResponse toResponse(Order order) {
-        List<OrderItemResponse> items = order.getOrderItems().stream()
-                .map(item -> OrderItemResponse.builder()
-                        .id(item.getId())
-                        .cardId(item.getCard().getId())
-                        .cardName(item.getCard().getName())
-                        .imageUrl(item.getCard().getDisplayImageUrl())
-                        .quantity(item.getQuantity())
-                        .unitPrice(item.getUnitPrice())
-                        .totalPrice(item.getTotalPrice())
-                        .build())
-                .collect(Collectors.toList());
-
-        return OrderResponse.builder()
-                .id(order.getId())
-                .items(items)
-                .totalPrice(order.getTotalPrice())
-                .status(order.getStatus())
-                .createdAt(order.getCreatedAt())
-                .build();
-    }
 }
-
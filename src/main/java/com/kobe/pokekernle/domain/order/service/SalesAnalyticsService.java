@@ -0,0 +1,249 @@
+package com.kobe.pokekernle.domain.order.service;
+
+import com.kobe.pokekernle.domain.card.entity.CardCategory;
+import com.kobe.pokekernle.domain.order.dto.response.SalesReportResponse;
+import com.kobe.pokekernle.domain.order.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 판매 통계 서비스
+ * 주문 아이템을 엔티티로 읽지 않고 필요한 컬럼만 순방향 스크롤로 흘려 읽으며 기본형 누적값에 더합니다.
+ * 마지막으로 반영한 주문 ID를 기억해 두고 이후 주문만 추가로 읽습니다.
+ * (집계 이후 취소된 주문은 다음 전체 재집계 전까지 반영되지 않습니다.)
+ */
+@Service
+@Slf4j
+public class SalesAnalyticsService {
+
+    private static final String SCAN_QUERY = """
+            select o.id, o.createdAt, c.id, c.name, c.cardCategory, oi.quantity, oi.totalPrice
+            from OrderItem oi join oi.order o join oi.card c
+            where o.id > :lastOrderId and o.createdAt < :cutoff and o.status <> :cancelled
+            order by o.id
+            """;
+
+    private static final int UNCATEGORIZED = CardCategory.values().length; // 카테고리 없는 카드용 마지막 칸
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+    private final long commitLagSeconds;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Totals totals = new Totals(); // 집계 상태 (this로 동기화)
+    private LocalDateTime refreshedAt;
+
+    public SalesAnalyticsService(PlatformTransactionManager transactionManager,
+                                 @Value("${app.order.analytics.fetch-size:1000}") int fetchSize,
+                                 @Value("${app.order.analytics.commit-lag-seconds:30}") long commitLagSeconds) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.commitLagSeconds = commitLagSeconds;
+    }
+
+    /**
+     * 누적 집계값
+     */
+    private static final class Totals {
+        private long lastOrderId;
+        private long orderCount;
+        private long unitCount;
+        private long revenue;
+        private final long[] categoryUnits = new long[UNCATEGORIZED + 1];
+        private final long[] categoryRevenue = new long[UNCATEGORIZED + 1];
+        private final Map<Long, long[]> daily = new HashMap<>(); // epochDay -> {주문 수, 수량, 매출}
+        private final Map<Long, long[]> cards = new HashMap<>(); // cardId -> {수량, 매출}
+        private final Map<Long, String> cardNames = new HashMap<>();
+
+        private void merge(Totals delta) {
+            lastOrderId = Math.max(lastOrderId, delta.lastOrderId);
+            orderCount += delta.orderCount;
+            unitCount += delta.unitCount;
+            revenue += delta.revenue;
+            for (int i = 0; i < categoryUnits.length; i++) {
+                categoryUnits[i] += delta.categoryUnits[i];
+                categoryRevenue[i] += delta.categoryRevenue[i];
+            }
+            delta.daily.forEach((day, values) -> add(daily.computeIfAbsent(day, key -> new long[3]), values));
+            delta.cards.forEach((cardId, values) -> add(cards.computeIfAbsent(cardId, key -> new long[2]), values));
+            cardNames.putAll(delta.cardNames);
+        }
+
+        private static void add(long[] target, long[] values) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] += values[i];
+            }
+        }
+    }
+
+    /**
+     * 주기적 증분 집계 (첫 실행은 전체 집계)
+     */
+    @Scheduled(fixedDelayString = "${app.order.analytics.refresh-interval-ms:300000}",
+            initialDelayString = "${app.order.analytics.initial-delay-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("[SALES] 판매 통계 집계 실패", e);
+        }
+    }
+
+    /**
+     * 마지막으로 반영한 주문 이후의 주문을 읽어 집계에 더함
+     * 커밋 순서가 ID 순서와 다를 수 있으므로 생성된 지 commit-lag-seconds가 지난 주문만 읽습니다.
+     * @return 이미 다른 집계가 진행 중이면 false
+     */
+    public boolean refresh() {
+        if (!refreshLock.tryLock()) {
+            return false;
+        }
+        try {
+            long fromOrderId;
+            synchronized (this) {
+                fromOrderId = totals.lastOrderId;
+            }
+            LocalDateTime cutoff = LocalDateTime.now().minusSeconds(commitLagSeconds);
+
+            long startedAt = System.currentTimeMillis();
+            Totals delta = readOnlyTransaction.execute(status -> scan(fromOrderId, cutoff));
+
+            synchronized (this) {
+                totals.merge(delta);
+                refreshedAt = LocalDateTime.now();
+            }
+            log.info("[SALES] 판매 통계 집계 완료 - 주문 ID {} 이후 {}건 반영, 소요: {}ms",
+                    fromOrderId, delta.orderCount, System.currentTimeMillis() - startedAt);
+            return true;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Totals scan(long fromOrderId, LocalDateTime cutoff) {
+        Totals delta = new Totals();
+        delta.lastOrderId = fromOrderId;
+
+        Session session = entityManager.unwrap(Session.class);
+        try (ScrollableResults<Object[]> rows = session.createSelectionQuery(SCAN_QUERY, Object[].class)
+                .setParameter("lastOrderId", fromOrderId)
+                .setParameter("cutoff", cutoff)
+                .setParameter("cancelled", OrderStatus.CANCELLED)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            long[] currentDay = null;
+            while (rows.next()) {
+                Object[] row = rows.get();
+                long orderId = (Long) row[0];
+                long cardId = (Long) row[2];
+                CardCategory category = (CardCategory) row[4];
+                long quantity = ((Integer) row[5]).longValue();
+                long itemRevenue = (Long) row[6];
+
+                // 주문 ID 순으로 읽으므로 ID가 바뀌면 새 주문
+                if (orderId != delta.lastOrderId) {
+                    delta.lastOrderId = orderId;
+                    delta.orderCount++;
+                    long epochDay = ((LocalDateTime) row[1]).toLocalDate().toEpochDay();
+                    currentDay = delta.daily.computeIfAbsent(epochDay, key -> new long[3]);
+                    currentDay[0]++;
+                }
+                currentDay[1] += quantity;
+                currentDay[2] += itemRevenue;
+
+                delta.unitCount += quantity;
+                delta.revenue += itemRevenue;
+
+                int slot = category != null ? category.ordinal() : UNCATEGORIZED;
+                delta.categoryUnits[slot] += quantity;
+                delta.categoryRevenue[slot] += itemRevenue;
+
+                long[] card = delta.cards.get(cardId);
+                if (card == null) {
+                    card = new long[2];
+                    delta.cards.put(cardId, card);
+                    delta.cardNames.put(cardId, (String) row[3]);
+                }
+                card[0] += quantity;
+                card[1] += itemRevenue;
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * 판매 통계 조회
+     * @param days 최근 며칠의 일별 매출을 포함할지
+     * @param top 판매량 상위 카드 수
+     */
+    public synchronized SalesReportResponse getReport(int days, int top) {
+        long fromEpochDay = LocalDate.now().minusDays(Math.max(days, 1) - 1L).toEpochDay();
+        List<SalesReportResponse.DailySales> daily = totals.daily.entrySet().stream()
+                .filter(entry -> entry.getKey() >= fromEpochDay)
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> SalesReportResponse.DailySales.builder()
+                        .date(LocalDate.ofEpochDay(entry.getKey()))
+                        .orderCount(entry.getValue()[0])
+                        .unitCount(entry.getValue()[1])
+                        .revenue(entry.getValue()[2])
+                        .build())
+                .toList();
+
+        List<SalesReportResponse.CategorySales> categories = new ArrayList<>(UNCATEGORIZED + 1);
+        for (int i = 0; i <= UNCATEGORIZED; i++) {
+            categories.add(SalesReportResponse.CategorySales.builder()
+                    .category(i < UNCATEGORIZED ? CardCategory.values()[i].name() : "UNCATEGORIZED")
+                    .unitCount(totals.categoryUnits[i])
+                    .revenue(totals.categoryRevenue[i])
+                    .build());
+        }
+
+        List<SalesReportResponse.CardSales> topSellers = totals.cards.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Long, long[]>>comparingLong(entry -> entry.getValue()[0])
+                        .thenComparingLong(entry -> entry.getValue()[1])
+                        .reversed())
+                .limit(Math.max(top, 0))
+                .map(entry -> SalesReportResponse.CardSales.builder()
+                        .cardId(entry.getKey())
+                        .cardName(totals.cardNames.get(entry.getKey()))
+                        .unitCount(entry.getValue()[0])
+                        .revenue(entry.getValue()[1])
+                        .build())
+                .toList();
+
+        return SalesReportResponse.builder()
+                .lastOrderId(totals.lastOrderId)
+                .refreshedAt(refreshedAt)
+                .orderCount(totals.orderCount)
+                .unitCount(totals.unitCount)
+                .revenue(totals.revenue)
+                .daily(daily)
+                .categories(categories)
+                .topSellers(topSellers)
+                .build();
+    }
+}
@@ -1,7 +1,12 @@
 package com.kobe.pokekernle.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * packageName    : com.kobe.pokekernle.global.config
@@ -13,9 +18,108 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 22.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       주문 이벤트 워커 풀 추가
+ * 2026. 10. 19.        kobe       한정 판매 주문 처리 풀 추가
+ * 2026. 10. 19.        kobe       이미지 동시 업로드 풀 추가
+ * 2026. 10. 19.        kobe       이미지 비동기 업로드 작업 풀 추가
+ * 2026. 10. 19.        kobe       카드 대량 등록 작업 풀 추가
  */
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
-    // 스케줄러 관련 세부 설정(스레드 풀 등)이 필요하면 여기서 설정
+    // 스케줄러 스레드 수는 application.yml의 spring.task.scheduling.pool.size로 설정
+
+    /**
+     * 주문 이벤트(아웃박스) 전달용 워커 풀
+     * 디스패처가 풀의 여유만큼만 이벤트를 가져오므로 큐가 무한히 쌓이지 않습니다.
+     */
+    @Bean(name = "orderEventExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor orderEventExecutor(
+            @Value("${app.order.events.workers:4}") int workers,
+            @Value("${app.order.events.max-in-flight:64}") int maxInFlight) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(Math.max(maxInFlight, 1));
+        executor.setThreadNamePrefix("order-event-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 한정 판매(드롭) 주문 처리 풀
+     * 카드마다 대기 중인 작업은 최대 한 개이므로 동시에 처리되는 카드 수가 스레드 수로 제한됩니다.
+     */
+    @Bean(name = "flashSaleExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor flashSaleExecutor(
+            @Value("${app.order.flash-sale.writers:4}") int writers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(writers);
+        executor.setMaxPoolSize(writers);
+        executor.setThreadNamePrefix("flash-sale-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 동시 업로드 풀 (원피스 박스 6면 등 여러 장을 한 번에 올릴 때)
+     * 스레드와 큐가 모두 차면 요청 스레드에서 직접 업로드하므로 동시 S3 업로드 수가 제한됩니다.
+     */
+    @Bean(name = "imageUploadExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${app.upload.parallelism:6}") int parallelism,
+            @Value("${app.upload.queue-capacity:24}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(Math.max(queueCapacity, 0));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 비동기 업로드 작업 풀
+     * 요청 스레드를 붙잡지 않는 것이 목적이므로 대기열이 가득 차면 요청 스레드에서 실행하지 않고 거절합니다.
+     */
+    @Bean(name = "imageUploadJobExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor imageUploadJobExecutor(
+            @Value("${app.upload.jobs.workers:2}") int workers,
+            @Value("${app.upload.jobs.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(Math.max(queueCapacity, 1));
+        executor.setThreadNamePrefix("image-upload-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 카드 대량 등록 작업 풀
+     * 한 작업이 DB에 배치 쓰기를 계속하므로 기본 1개씩 처리하고, 대기열이 가득 차면 거절합니다.
+     */
+    @Bean(name = "cardImportExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor cardImportExecutor(
+            @Value("${app.card-import.workers:1}") int workers,
+            @Value("${app.card-import.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(Math.max(queueCapacity, 1));
+        executor.setThreadNamePrefix("card-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
 }
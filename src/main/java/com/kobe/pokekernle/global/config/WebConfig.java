@@ -1,15 +1,15 @@
 package com.kobe.pokekernle.global.config;
 
-import com.kobe.pokekernle.global.interceptor.RateLimitInterceptor;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import com.kobe.pokekernle.global.config.rate.RateLimitProperties;
+import com.kobe.pokekernle.global.filter.RateLimitFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.CacheControl;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.nio.file.Paths;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -18,34 +18,29 @@ import java.util.concurrent.TimeUnit;
  * author         : kobe
  * date           : 2025. 12. 22.
  * description    : 웹 설정 (정적 리소스 매핑 및 캐시 설정)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       Rate Limit 인터셉터 등록을 보안 필터 체인의 RateLimitFilter로 대체
+ * 2026. 10. 19.        kobe       업로드 이미지 리소스 핸들러를 UploadedImageController로 대체
  */
 @Configuration
-@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
-    private final RateLimitInterceptor rateLimitInterceptor;
-
-    @Value("${app.upload.dir:uploads/images}")
-    private String uploadDir;
-
-    @Value("${app.upload.url-prefix:/uploads/images}")
-    private String urlPrefix;
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(rateLimitInterceptor)
-                .addPathPatterns("/register") // 회원가입 엔드포인트에만 적용
-                .excludePathPatterns("/register", "/register?**") // GET 제외
-                .order(1);
+    /**
+     * RateLimitFilter는 보안 필터 체인 안에서(로그인 처리 전) 실행되므로 서블릿 필터로 중복 등록하지 않음
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 업로드된 이미지를 정적 리소스로 제공 (1년 캐시)
-        String uploadPath = Paths.get(uploadDir).toAbsolutePath().toString();
-        registry.addResourceHandler(urlPrefix + "/**")
-                .addResourceLocations("file:" + uploadPath + "/")
-                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic());
+        // 업로드된 이미지는 UploadedImageController에서 제공 (sendfile, Range, ETag)
 
         // CSS 파일 캐시 설정 (1년)
         registry.addResourceHandler("/css/**")
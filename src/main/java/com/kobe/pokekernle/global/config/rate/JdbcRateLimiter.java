@@ -0,0 +1,184 @@
+package com.kobe.pokekernle.global.config.rate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.config.rate
+ * fileName       : JdbcRateLimiter
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : DB(rate_limit_buckets) 공유 버킷 기반 Rate Limit (여러 서버가 하나의 제한을 나눠 씀)
+ *                  서버는 DB 버킷에서 토큰을 몇 개씩 미리 임대해 두고 로컬에서 차감하므로
+ *                  대부분의 요청은 DB를 거치지 않습니다. 임대한 토큰은 반납하지 않으므로
+ *                  클러스터 전체 허용량이 capacity를 넘지 않습니다. (서버 간 분배만 달라질 수 있음)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       버킷 행을 먼저 만든 뒤 잠금 (갭 잠금 교착 방지), 잠금 실패 시 한 번 재시도
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "mode", havingValue = "jdbc")
+public class JdbcRateLimiter implements RateLimiter {
+
+    private static final String SELECT_FOR_UPDATE =
+            "SELECT tokens, refill_at FROM rate_limit_buckets WHERE bucket_key = ? FOR UPDATE";
+    // 없는 행을 FOR UPDATE로 읽으면 갭 잠금이 걸려 동시에 처음 오는 요청끼리 교착되므로, 행을 먼저 만든 뒤 기본 키로 잠금
+    private static final String INSERT_IF_ABSENT =
+            "INSERT IGNORE INTO rate_limit_buckets (bucket_key, tokens, refill_at) VALUES (?, ?, ?)";
+    private static final String UPDATE =
+            "UPDATE rate_limit_buckets SET tokens = ?, refill_at = ? WHERE bucket_key = ?";
+    private static final String DELETE_REFILLED =
+            "DELETE FROM rate_limit_buckets WHERE refill_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final double prefetchRatio;
+    private final RateLimitBucketStore<Lease> leases;
+
+    public JdbcRateLimiter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.rate-limit.jdbc.prefetch-ratio:0.1}") double prefetchRatio,
+                           @Value("${app.rate-limit.max-entries:100000}") long maxEntries,
+                           @Value("${app.rate-limit.expire-after-access-minutes:60}") long expireAfterAccessMinutes,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 요청 처리 트랜잭션과 분리해서 행 잠금을 바로 풀어줌
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.prefetchRatio = Math.max(prefetchRatio, 0);
+        this.leases = new RateLimitBucketStore<>("rate-limit.leases", maxEntries,
+                Duration.ofMinutes(expireAfterAccessMinutes), meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * 서버가 DB 버킷에서 임대해 둔 토큰 (자기 자신으로 동기화)
+     */
+    private static final class Lease {
+        private long remaining;
+        private long expiresAt; // 임대한 버킷의 리필 시각 (이후에는 남은 토큰을 버리고 새로 임대)
+        private long sharedUpperBound = Long.MAX_VALUE; // 리필 전까지 DB 버킷에 남아 있을 수 있는 최대 토큰 수 (줄어들기만 함)
+    }
+
+    /**
+     * @param tokens 임대한 토큰 수
+     * @param refillAt 버킷의 다음 리필 시각
+     * @param leftInDb 임대 후 DB 버킷에 남은 토큰 수
+     */
+    private record Grant(long tokens, long refillAt, long leftInDb) {
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitRule rule, long tokens) {
+        Lease lease = leases.get(key, Lease::new);
+        // 같은 키의 임대는 서버 안에서 한 번에 하나만 (동시에 몰려도 DB 왕복은 한 번)
+        synchronized (lease) {
+            long now = System.currentTimeMillis();
+            if (now >= lease.expiresAt) {
+                lease.remaining = 0;
+                lease.sharedUpperBound = Long.MAX_VALUE;
+            }
+            if (lease.remaining >= tokens) {
+                lease.remaining -= tokens;
+                return true;
+            }
+
+            long shortfall = tokens - lease.remaining;
+            if (shortfall > lease.sharedUpperBound) {
+                // 리필 전까지 DB 버킷이 다시 차지 않으므로 DB를 거치지 않고 바로 거절
+                return false;
+            }
+
+            long request = Math.min(Math.max(shortfall, (long) (rule.capacity() * prefetchRatio)), rule.capacity());
+            Grant grant = acquire(key, rule, shortfall, request, now);
+            if (grant.refillAt() != lease.expiresAt) {
+                lease.remaining = 0; // 서버 간 시계 차이로 다른 주기의 버킷을 받은 경우 이전 임대분은 버림
+            }
+            lease.remaining += grant.tokens();
+            lease.expiresAt = grant.refillAt();
+            lease.sharedUpperBound = grant.leftInDb();
+
+            if (lease.remaining < tokens) {
+                return false;
+            }
+            lease.remaining -= tokens;
+            return true;
+        }
+    }
+
+    /**
+     * DB 버킷에서 최대 request개의 토큰을 임대 (최소 required개를 줄 수 없으면 하나도 가져오지 않음)
+     * 교착/잠금 대기 시간 초과는 한 번 재시도하고, 그래도 실패하면 예외를 그대로 던집니다. (필터가 허용 처리)
+     */
+    private Grant acquire(String key, RateLimitRule rule, long required, long request, long now) {
+        try {
+            return acquireOnce(key, rule, required, request, now);
+        } catch (PessimisticLockingFailureException e) {
+            log.debug("[RATE_LIMIT] 버킷 잠금 실패, 재시도 - 키: {}", key, e);
+            return acquireOnce(key, rule, required, request, now);
+        }
+    }
+
+    private Grant acquireOnce(String key, RateLimitRule rule, long required, long request, long now) {
+        // 1. 행이 없으면 가득 찬 버킷으로 만들고 바로 커밋 (잠금 트랜잭션과 분리해서 공유 잠금이 남지 않도록)
+        long period = rule.refillPeriod().toMillis();
+        transaction.executeWithoutResult(status -> jdbcTemplate.update(INSERT_IF_ABSENT, key, rule.capacity(), now + period));
+        // 2. 기본 키로 행을 잠그고 임대
+        return transaction.execute(status -> acquireLocked(key, rule, required, request, now));
+    }
+
+    private Grant acquireLocked(String key, RateLimitRule rule, long required, long request, long now) {
+        long period = rule.refillPeriod().toMillis();
+        List<long[]> rows = jdbcTemplate.query(SELECT_FOR_UPDATE,
+                (rs, rowNum) -> new long[]{rs.getLong("tokens"), rs.getLong("refill_at")}, key);
+
+        if (rows.isEmpty()) {
+            // 1단계 이후 정리 작업이 행을 지운 경우(리필 시각이 지난 행 = 가득 찬 버킷): 임대분을 뺀 채로 새로 만듦
+            long granted = required <= rule.capacity() ? request : 0;
+            if (jdbcTemplate.update(INSERT_IF_ABSENT, key, rule.capacity() - granted, now + period) == 1) {
+                return new Grant(granted, now + period, rule.capacity() - granted);
+            }
+            // 그 사이 다른 서버가 만들었으면 이제 행이 있으므로 다시 잠금
+            rows = jdbcTemplate.query(SELECT_FOR_UPDATE,
+                    (rs, rowNum) -> new long[]{rs.getLong("tokens"), rs.getLong("refill_at")}, key);
+        }
+
+        long available = rows.get(0)[0];
+        long refillAt = rows.get(0)[1];
+        if (now >= refillAt) {
+            // 리필 시각이 지났으면 가득 채우고 다음 리필 시각을 주기 단위로 맞춤
+            available = rule.capacity();
+            refillAt += ((now - refillAt) / period + 1) * period;
+        }
+
+        long granted = available >= required ? Math.min(request, available) : 0;
+        jdbcTemplate.update(UPDATE, available - granted, refillAt, key);
+        return new Grant(granted, refillAt, available - granted);
+    }
+
+    /**
+     * 리필 시각이 지난 버킷 행 정리 (가득 찬 버킷과 같으므로 지워도 제한이 바뀌지 않음)
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.jdbc.cleanup-interval-ms:3600000}")
+    public void deleteRefilledBuckets() {
+        int deleted = jdbcTemplate.update(DELETE_REFILLED, System.currentTimeMillis());
+        if (deleted > 0) {
+            log.debug("[RATE_LIMIT] 리필된 버킷 정리 - {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.kobe.pokekernle.global.config.rate;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.config.rate
+ * fileName       : LocalRateLimiter
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 서버 메모리 버킷 기반 Rate Limit (서버 한 대 또는 서버별 제한으로 충분할 때)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "mode", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    // X-Forwarded-For 값을 바꿔가며 요청해도 최대 개수를 넘지 않음
+    private final RateLimitBucketStore<Bucket> buckets;
+
+    public LocalRateLimiter(@Value("${app.rate-limit.max-entries:100000}") long maxEntries,
+                            @Value("${app.rate-limit.expire-after-access-minutes:60}") long expireAfterAccessMinutes,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        // 만료 시간이 리필 주기 이상이면 만료로 버킷이 사라져도 제한이 느슨해지지 않음
+        this.buckets = new RateLimitBucketStore<>("rate-limit.buckets", maxEntries,
+                Duration.ofMinutes(expireAfterAccessMinutes), meterRegistry.getIfAvailable());
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitRule rule, long tokens) {
+        return buckets.get(key, () -> createBucket(rule)).tryConsume(tokens);
+    }
+
+    private Bucket createBucket(RateLimitRule rule) {
+        Bandwidth limit = Bandwidth.builder()
+                .capacity(rule.capacity())
+                .refillIntervally(rule.capacity(), rule.refillPeriod())
+                .build();
+
+        return Bucket.builder()
+                .addLimit(limit)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.kobe.pokekernle.global.config.rate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.config.rate
+ * fileName       : RateLimitBucket
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 분산 Rate Limit 버킷 (app.rate-limit.mode=jdbc)
+ *                  테이블 생성용 매핑이며 읽기/쓰기는 JdbcRateLimiter가 SQL로 직접 처리합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "rate_limit_buckets",
+        indexes = @Index(name = "idx_rate_limit_buckets_refill_at", columnList = "refill_at"))
+public class RateLimitBucket {
+
+    @Id
+    @Column(name = "bucket_key", length = 191)
+    private String bucketKey;
+
+    @Column(nullable = false)
+    private long tokens; // 남은 토큰 수 (각 서버가 임대해 간 토큰은 이미 빠져 있음)
+
+    @Column(name = "refill_at", nullable = false)
+    private long refillAt; // 다음 리필 시각 (epoch millis), 지난 행은 가득 찬 버킷과 같음
+}
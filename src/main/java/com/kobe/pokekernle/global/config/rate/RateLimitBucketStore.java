@@ -0,0 +1,58 @@
+package com.kobe.pokekernle.global.config.rate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.config.rate
+ * fileName       : RateLimitBucketStore
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 크기 제한 + 접근 후 만료되는 Rate Limit 버킷 저장소 (B: 버킷 또는 분산 모드의 로컬 임대분)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       분산 모드 임대분도 담을 수 있도록 값 타입 일반화
+ */
+public class RateLimitBucketStore<B> {
+
+    private final Cache<String, B> buckets;
+
+    /**
+     * @param name 메트릭 이름에 붙는 저장소 이름 (cache 태그)
+     * @param maxEntries 최대 버킷 수 (초과 시 자주 쓰이지 않는 버킷부터 제거)
+     * @param expireAfterAccess 마지막 사용 후 버킷을 유지하는 시간 (리필 주기 이상이어야 제한이 풀리지 않음)
+     * @param meterRegistry 엔트리 수/제거 수 메트릭 등록용 (없으면 null)
+     */
+    public RateLimitBucketStore(String name, long maxEntries, Duration expireAfterAccess, MeterRegistry meterRegistry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            // cache.size, cache.evictions, cache.gets 등 (cache=<name> 태그)
+            CaffeineCacheMetrics.monitor(meterRegistry, buckets, name);
+        }
+    }
+
+    /**
+     * 키에 해당하는 버킷 조회 (없으면 생성)
+     */
+    public B get(String key, Supplier<B> bucketFactory) {
+        return buckets.get(key, k -> bucketFactory.get());
+    }
+
+    /**
+     * 현재 버킷 수 (추정치)
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,50 @@
+package com.kobe.pokekernle.global.config.rate;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.config.rate
+ * fileName       : RateLimitProperties
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 경로별 Rate Limit 정책 (app.rate-limit.policies)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    // 위에서부터 순서대로 비교해 처음 일치하는 정책 하나만 적용
+    private List<Policy> policies = new ArrayList<>();
+
+    /**
+     * 버킷 키 기준
+     */
+    public enum KeyType {
+        IP,      // 클라이언트 IP
+        USER,    // 로그인 사용자 ID (비로그인이면 IP)
+        SESSION  // 세션 ID (세션이 없으면 IP)
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private String name; // 버킷 키 접두사 (정책마다 달라야 함)
+        private List<String> paths = new ArrayList<>(); // PathPattern 문법 (예: /api/cart/**)
+        private List<String> methods = new ArrayList<>(); // 비어 있으면 모든 메서드
+        private long capacity;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        private KeyType key = KeyType.IP;
+        private long cost = 1; // 요청 한 번에 차감할 토큰 수 (비싼 경로일수록 크게)
+    }
+}
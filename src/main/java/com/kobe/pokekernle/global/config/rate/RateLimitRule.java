@@ -0,0 +1,26 @@
+package com.kobe.pokekernle.global.config.rate;
+
+import java.time.Duration;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.config.rate
+ * fileName       : RateLimitRule
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 버킷 규칙 (refillPeriod마다 capacity개로 다시 채워짐)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public record RateLimitRule(long capacity, Duration refillPeriod) {
+
+    public RateLimitRule {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        if (refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("refillPeriod는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.kobe.pokekernle.global.config.rate;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.config.rate
+ * fileName       : RateLimiter
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 버킷 저장 방식별 Rate Limit 구현 (app.rate-limit.mode: local | jdbc)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public interface RateLimiter {
+
+    /**
+     * 키의 버킷에서 토큰 차감
+     * @param key 버킷 키 (호출하는 쪽에서 용도별 접두사를 붙임)
+     * @param rule 버킷이 없을 때 만들 규칙
+     * @param tokens 차감할 토큰 수
+     * @return true면 허용, false면 제한 초과
+     */
+    boolean tryConsume(String key, RateLimitRule rule, long tokens);
+}
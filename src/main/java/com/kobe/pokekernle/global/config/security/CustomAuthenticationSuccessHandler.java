@@ -1,6 +1,8 @@
 package com.kobe.pokekernle.global.config.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kobe.pokekernle.domain.cart.controller.GuestCartCookie;
+import com.kobe.pokekernle.domain.cart.service.CartService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,8 +23,10 @@ import java.util.Map;
 public class CustomAuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CartService cartService;
 
-    public CustomAuthenticationSuccessHandler() {
+    public CustomAuthenticationSuccessHandler(CartService cartService) {
+        this.cartService = cartService;
         // 기본 리다이렉트 URL 설정 (역할에 따라 동적으로 변경됨)
         setDefaultTargetUrl("/cards");
     }
@@ -33,6 +37,8 @@ public class CustomAuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         
         log.info("[AUTH] 로그인 성공 핸들러 호출됨 - Request URI: {}, Method: {}", 
                 request.getRequestURI(), request.getMethod());
+
+        mergeGuestCart(request, response, authentication);
         
         // 사용자 역할에 따라 리다이렉트 URL 결정
         String redirectUrl = "/cards"; // 기본값: 일반 사용자
@@ -69,5 +75,24 @@ public class CustomAuthenticationSuccessHandler extends SimpleUrlAuthenticationS
                     redirectUrl);
         }
     }
-}
 
+    /**
+     * 로그인 전에 담은 게스트 장바구니를 사용자 장바구니로 병합
+     * 병합에 실패해도 로그인은 계속 진행합니다.
+     */
+    private void mergeGuestCart(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String guestToken = GuestCartCookie.read(request);
+        if (guestToken == null) {
+            return;
+        }
+        try {
+            if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+                cartService.mergeGuestCart(guestToken, userDetails.getId());
+            }
+        } catch (Exception e) {
+            log.error("[AUTH] 게스트 장바구니 병합 실패 - 사용자: {}", authentication.getName(), e);
+        } finally {
+            GuestCartCookie.clear(request, response);
+        }
+    }
+}
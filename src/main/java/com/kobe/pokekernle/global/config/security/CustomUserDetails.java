@@ -0,0 +1,89 @@
+package com.kobe.pokekernle.global.config.security;
+
+import com.kobe.pokekernle.domain.user.entity.Role;
+import com.kobe.pokekernle.domain.user.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * 인증된 사용자 정보
+ * 사용자 ID와 권한을 함께 담아 두어 요청마다 users 테이블을 다시 조회하지 않도록 합니다.
+ * (컨트롤러에서는 @AuthenticationPrincipal로 주입받아 사용)
+ */
+@Getter
+public class CustomUserDetails implements UserDetails, CredentialsContainer {
+
+    private final Long id;
+    private final String email;
+    private String password;
+    private final Role role;
+
+    public CustomUserDetails(Long id, String email, String password, Role role) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+    }
+
+    public static CustomUserDetails from(User user) {
+        return new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority(role.getKey()));
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 인증 후 세션에 비밀번호 해시가 남지 않도록 제거
+     */
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    // 동시 세션 제어(SessionRegistry)가 사용자 단위로 동작하도록 이메일 기준으로 비교
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CustomUserDetails that)) return false;
+        return Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(email);
+    }
+}
@@ -1,20 +1,14 @@
 package com.kobe.pokekernle.global.config.security;
 
-import com.kobe.pokekernle.domain.user.entity.Role;
 import com.kobe.pokekernle.domain.user.entity.User;
 import com.kobe.pokekernle.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
-import java.util.Collections;
-
 /**
  * Spring Security의 UserDetailsService 구현
  * 이메일을 기반으로 사용자 인증 정보를 제공합니다.
@@ -31,18 +25,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(getAuthorities(user.getRole()))
-                .build();
-    }
-
-    /**
-     * Role을 Spring Security의 GrantedAuthority로 변환
-     */
-    private Collection<? extends GrantedAuthority> getAuthorities(Role role) {
-        return Collections.singletonList(new SimpleGrantedAuthority(role.getKey()));
+        // 사용자 ID와 권한을 담아 두어 이후 요청에서 users 테이블을 다시 조회하지 않음
+        return CustomUserDetails.from(user);
     }
 }
-
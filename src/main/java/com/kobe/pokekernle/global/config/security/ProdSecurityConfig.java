@@ -1,5 +1,6 @@
 package com.kobe.pokekernle.global.config.security;
 
+import com.kobe.pokekernle.global.filter.RateLimitFilter;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +11,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 /**
@@ -22,6 +24,9 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 20.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       경로별 Rate Limit 필터 추가 (로그인 처리 전)
+ * 2026. 10. 19.        kobe       사이트맵 분할 파일(/sitemaps/**) 접근 허용
+ * 2026. 10. 19.        kobe       컬렉션 CSV 가져오기/내보내기는 로그인한 사용자만 허용
  */
 @Configuration
 @EnableWebSecurity
@@ -35,16 +40,21 @@ public class ProdSecurityConfig {
 
     private final CustomAuthenticationSuccessHandler customAuthenticationSuccessHandler;
     private final CustomAuthenticationFailureHandler customAuthenticationFailureHandler;
+    private final RateLimitFilter rateLimitFilter;
 
     public ProdSecurityConfig(CustomAuthenticationSuccessHandler customAuthenticationSuccessHandler,
-                             CustomAuthenticationFailureHandler customAuthenticationFailureHandler) {
+                             CustomAuthenticationFailureHandler customAuthenticationFailureHandler,
+                             RateLimitFilter rateLimitFilter) {
         this.customAuthenticationSuccessHandler = customAuthenticationSuccessHandler;
         this.customAuthenticationFailureHandler = customAuthenticationFailureHandler;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, SessionRegistry sessionRegistry) throws Exception {
         http
+                // 경로별 Rate Limit (세션의 인증 정보를 읽은 뒤, 로그인 처리 전에 검사)
+                .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
                         // 1. 정적 리소스는 운영에서도 열어줘야 화면이 깨지지 않음
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
@@ -67,7 +77,8 @@ public class ProdSecurityConfig {
                         // 6. SHOP 카테고리 페이지 허용
                         .requestMatchers("/shop/**").permitAll()
 
-                        // 7. 컬렉션 페이지 허용
+                        // 7. 컬렉션 페이지 허용 (CSV 가져오기/내보내기는 본인 컬렉션만 다루므로 로그인 필요)
+                        .requestMatchers("/collection/import", "/collection/export").authenticated()
                         .requestMatchers("/collection/**").permitAll()
 
                         // 8. 업로드된 이미지 접근 허용
@@ -75,18 +86,21 @@ public class ProdSecurityConfig {
                         .requestMatchers("/images/**").permitAll()
 
                         // 9. SEO 파일 허용
-                        .requestMatchers("/sitemap.xml", "/robots.txt").permitAll()
+                        .requestMatchers("/sitemap.xml", "/sitemaps/**", "/robots.txt").permitAll()
 
                         // API 경로는 인증된 사용자만 접근 가능
-                        .requestMatchers("/api/cart/**").authenticated()
+                        .requestMatchers("/api/cart/**").permitAll() // 비로그인 사용자는 게스트 장바구니 사용
                         .requestMatchers("/api/orders/**").authenticated()
                         // 공지사항 API는 공개 (활성화된 공지사항만)
                         .requestMatchers("/api/notices/active").permitAll()
                         // 공지사항 관리 API는 ADMIN 권한 필요
                         .requestMatchers("/api/notices/**").hasRole("ADMIN")
-                        // 장바구니 및 주문서 페이지는 인증된 사용자만 접근 가능
-                        .requestMatchers("/cart").authenticated()
+                        // 장바구니 페이지는 게스트도 접근 가능, 주문서 페이지는 인증된 사용자만 접근 가능
+                        .requestMatchers("/cart").permitAll()
                         .requestMatchers("/checkout").authenticated()
+                        // 모니터링: health는 로드밸런서 헬스체크용으로 공개, 나머지 actuator는 ADMIN 전용
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 10. 관리자 페이지는 ADMIN 권한만 접근 가능
                         .requestMatchers("/admin/**").hasRole("ADMIN")
 
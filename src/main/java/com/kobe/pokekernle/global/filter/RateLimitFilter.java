@@ -0,0 +1,170 @@
+package com.kobe.pokekernle.global.filter;
+
+import com.kobe.pokekernle.global.config.rate.RateLimitProperties;
+import com.kobe.pokekernle.global.config.rate.RateLimitRule;
+import com.kobe.pokekernle.global.config.rate.RateLimiter;
+import com.kobe.pokekernle.global.config.security.CustomUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.filter
+ * fileName       : RateLimitFilter
+ * author         : kobe
+ * date           : 2025. 12. 29.
+ * description    : 경로별 Rate Limit 필터 (정책: app.rate-limit.policies)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2025. 12. 29.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       RateLimitInterceptor를 보안 필터 체인의 필터로 변경하고 설정 기반 경로별 정책 적용
+ *                                  (/login 처리는 MVC까지 오지 않으므로 필터에서 검사)
+ * 2026. 10. 19.        kobe       X-Forwarded-For 등 헤더를 직접 신뢰하지 않고 remoteAddr 사용 (프록시는 RemoteIpValve로 처리)
+ * 2026. 10. 19.        kobe       제한 저장소 오류 시 요청 허용 (fail-open, 경고 로그)
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final List<CompiledPolicy> policies;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.policies = compile(properties.getPolicies());
+        log.info("[RATE_LIMIT] 경로별 정책 {}개 적용 - {}", policies.size(),
+                policies.stream().map(policy -> policy.name).collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * 기동 시 한 번 파싱해 둔 정책
+     */
+    private record CompiledPolicy(String name, List<PathPattern> patterns, Set<String> methods,
+                                  RateLimitRule rule, RateLimitProperties.KeyType keyType, long cost) {
+
+        private boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static List<CompiledPolicy> compile(List<RateLimitProperties.Policy> policies) {
+        PathPatternParser parser = new PathPatternParser();
+        Set<String> names = new HashSet<>();
+        List<CompiledPolicy> compiled = new ArrayList<>(policies.size());
+        for (RateLimitProperties.Policy policy : policies) {
+            if (!StringUtils.hasText(policy.getName()) || !names.add(policy.getName())) {
+                throw new IllegalStateException("Rate Limit 정책 이름이 비어 있거나 중복되었습니다: " + policy.getName());
+            }
+            if (policy.getPaths().isEmpty()) {
+                throw new IllegalStateException("Rate Limit 정책에 경로가 없습니다: " + policy.getName());
+            }
+            compiled.add(new CompiledPolicy(
+                    policy.getName(),
+                    policy.getPaths().stream().map(parser::parse).toList(),
+                    policy.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                    new RateLimitRule(policy.getCapacity(), policy.getRefillPeriod()),
+                    policy.getKey(),
+                    Math.max(policy.getCost(), 1)));
+        }
+        return List.copyOf(compiled);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CompiledPolicy policy = findPolicy(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = "route:" + policy.name() + ":" + resolveKey(policy.keyType(), request);
+        boolean allowed;
+        try {
+            allowed = rateLimiter.tryConsume(key, policy.rule(), policy.cost());
+        } catch (DataAccessException | TransactionException e) {
+            // 제한 저장소(DB) 장애나 잠금 경합으로 일반 요청이 500이 되지 않도록 허용 (fail-open)
+            log.warn("[RATE_LIMIT] 제한 확인 실패, 요청 허용 - 정책: {}, 키: {}", policy.name(), key, e);
+            allowed = true;
+        }
+        if (!allowed) {
+            log.warn("[RATE_LIMIT] 제한 초과 - 정책: {}, 키: {}", policy.name(), key);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledPolicy findPolicy(HttpServletRequest request) {
+        if (policies.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        String method = request.getMethod();
+        for (CompiledPolicy policy : policies) {
+            if (policy.matches(method, path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private String resolveKey(RateLimitProperties.KeyType keyType, HttpServletRequest request) {
+        if (keyType == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+                return "user:" + userDetails.getId();
+            }
+        } else if (keyType == RateLimitProperties.KeyType.SESSION) {
+            HttpSession session = request.getSession(false); // 제한 검사만으로 세션을 만들지 않음
+            if (session != null) {
+                return "session:" + session.getId();
+            }
+        }
+        return "ip:" + getClientIp(request);
+    }
+
+    /**
+     * 클라이언트 IP (요청 헤더는 클라이언트가 마음대로 바꿀 수 있으므로 직접 읽지 않음)
+     * 프록시 뒤에서는 Tomcat RemoteIpValve(server.forward-headers-strategy: native)가
+     * 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)에서 온 X-Forwarded-For만 반영해 remoteAddr를 바꿔 줍니다.
+     */
+    private String getClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -1,77 +0,0 @@
-package com.kobe.pokekernle.global.interceptor;
-
-import com.kobe.pokekernle.global.config.rate.RateLimitService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
-import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
-
-/**
- * packageName    : com.kobe.pokekernle.global.interceptor
- * fileName       : RateLimitInterceptor
- * author         : kobe
- * date           : 2025. 12. 29.
- * description    :
- * ===========================================================
- * DATE              AUTHOR             NOTE
- * -----------------------------------------------------------
- * 2025. 12. 29.        kobe       최초 생성
- */
-
-@Component
-@RequiredArgsConstructor
-public class RateLimitInterceptor implements HandlerInterceptor {
-
-    private final RateLimitService rateLimitService;
-
-    @Override
-    public boolean preHandle(HttpServletRequest request,
-                             HttpServletResponse response,
-                             Object handler) throws Exception {
-
-        // GET 요청은 Rate Limit 체크 제외 (회원가입 페이지 조회는 허용)
-        if ("GET".equalsIgnoreCase(request.getMethod())) {
-            return true;
-        }
-
-        // POST 요청만 Rate Limit 체크
-        // IP 주소 추출
-        String clientIp = getClientIp(request);
-
-        // IP 기반 Rate Limit 체크
-        if (!rateLimitService.tryConsumeByIp(clientIp)) {
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.setContentType("application/json;charset=UTF-8");
-            response.getWriter().write("{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
-            return false;
-        }
-
-        return true;
-    }
-
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        // 여러 IP가 있는 경우 첫 번째 IP 사용
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-        return ip;
-    }
-}
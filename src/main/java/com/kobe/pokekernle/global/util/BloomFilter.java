@@ -0,0 +1,85 @@
+package com.kobe.pokekernle.global.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.util
+ * fileName       : BloomFilter
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 문자열용 블룸 필터 (많은 값을 적은 메모리로 "없음"을 확실히 판단할 때 사용)
+ *                  mightContain()이 false면 넣은 적이 없는 값이고, true면 넣었거나 드물게 오판한 값입니다.
+ *                  스레드 안전하지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 넣을 값의 예상 개수
+     * @param falsePositiveRate 목표 오판율 (예: 0.01)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오판율은 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.bits = new long[Math.toIntExact(bitCount / 64)];
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void add(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 사용 중인 메모리 (바이트)
+     */
+    public long sizeInBytes() {
+        return bits.length * 8L;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 MurmurHash3 마무리 섞기를 적용 (상위/하위 32비트를 두 개의 해시로 사용)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
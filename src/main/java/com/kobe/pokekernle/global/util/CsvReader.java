@@ -0,0 +1,169 @@
+package com.kobe.pokekernle.global.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.util
+ * fileName       : CsvReader
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : CSV(RFC 4180)를 한 행씩 흘려 읽는 리더 (파일 전체를 메모리에 올리지 않음)
+ *                  따옴표로 감싼 필드 안의 쉼표/줄바꿈과 "" 이스케이프를 지원하고, 맨 앞 BOM과 빈 줄은 건너뜁니다.
+ *                  한 행이 최대 길이를 넘으면 IllegalArgumentException을 던집니다.
+ *                  스레드 안전하지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int DEFAULT_MAX_RECORD_LENGTH = 64 * 1024;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> record = new ArrayList<>();
+
+    private int pushedBack = NONE;
+    private boolean started;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+    private int recordLength;
+
+    public CsvReader(Reader reader) {
+        this(reader, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    /**
+     * @param reader 버퍼링은 내부에서 하지 않으므로 BufferedReader를 넘기세요.
+     * @param maxRecordLength 한 행의 최대 글자 수
+     */
+    public CsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * 다음 행
+     * @return 파일 끝이면 null
+     */
+    public String[] next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLineNumber = lineNumber - (c == '\n' ? 1 : 0);
+            String[] values = readRecord(c);
+            // 빈 줄은 건너뜀
+            if (values.length > 1 || !values[0].isEmpty()) {
+                return values;
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 행이 시작된 줄 번호 (1부터, 오류 메시지용)
+     */
+    public long lineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * 헤더 행의 컬럼 이름(대소문자, 앞뒤 공백 무시) -> 위치
+     */
+    public static Map<String, Integer> columnIndexes(String[] header) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            indexes.putIfAbsent(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        return indexes;
+    }
+
+    private String[] readRecord(int c) throws IOException {
+        record.clear();
+        field.setLength(0);
+        recordLength = 0;
+        boolean inQuotes = false;
+        boolean quoted = false;
+
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    throw new IllegalArgumentException(recordLineNumber + "행: 닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        inQuotes = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                append(c);
+            } else if (c == -1 || c == '\n') {
+                break;
+            } else if (c == '\r') {
+                int next = read();
+                if (next != '\n' && next != -1) {
+                    pushedBack = next;
+                }
+                break;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '"' && field.length() == 0 && !quoted) {
+                inQuotes = true;
+                quoted = true;
+            } else {
+                append(c);
+            }
+            c = read();
+        }
+        record.add(field.toString());
+        return record.toArray(new String[0]);
+    }
+
+    private void append(int c) {
+        if (++recordLength > maxRecordLength) {
+            throw new IllegalArgumentException(recordLineNumber + "행: 한 행이 너무 깁니다. (최대 " + maxRecordLength + "자)");
+        }
+        field.append((char) c);
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != NONE) {
+            c = pushedBack;
+            pushedBack = NONE;
+        } else {
+            c = reader.read();
+            if (!started) {
+                started = true;
+                // UTF-8 BOM (엑셀에서 저장한 파일)
+                if (c == '\uFEFF') {
+                    c = reader.read();
+                }
+            }
+        }
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
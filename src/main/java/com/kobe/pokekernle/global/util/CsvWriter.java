@@ -0,0 +1,75 @@
+package com.kobe.pokekernle.global.util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.util
+ * fileName       : CsvWriter
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : CSV(RFC 4180)를 한 행씩 쓰는 라이터 (CsvReader로 다시 읽을 수 있는 형식)
+ *                  쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싸고, null은 빈 값으로 씁니다.
+ *                  스레드 안전하지 않습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class CsvWriter implements Closeable, Flushable {
+
+    private final Writer writer;
+
+    /**
+     * @param writer 버퍼링은 내부에서 하지 않으므로 BufferedWriter를 넘기세요.
+     */
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 엑셀이 UTF-8로 열도록 맨 앞에 BOM을 씀 (첫 행보다 먼저 호출)
+     */
+    public void writeBom() throws IOException {
+        writer.write('\uFEFF');
+    }
+
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeValue(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeValue(String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
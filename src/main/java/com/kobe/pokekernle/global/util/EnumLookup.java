@@ -0,0 +1,65 @@
+package com.kobe.pokekernle.global.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.util
+ * fileName       : EnumLookup
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 문자열 -> enum 변환표 (대량 가져오기에서 행마다 valueOf 예외를 만들지 않도록 미리 만들어 둠)
+ *                  대소문자와 앞뒤 공백을 무시하고, '-'와 ' '는 '_'로 봅니다. (예: "pokemon-single" -> POKEMON_SINGLE)
+ *                  만든 뒤에는 바뀌지 않으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final String label;
+    private final Map<String, E> values;
+    private final String allowed;
+
+    private EnumLookup(String label, Map<String, E> values, String allowed) {
+        this.label = label;
+        this.values = values;
+        this.allowed = allowed;
+    }
+
+    /**
+     * @param label 오류 메시지에 쓸 이름 (예: "rarity")
+     */
+    public static <E extends Enum<E>> EnumLookup<E> of(Class<E> type, String label) {
+        Map<String, E> values = new HashMap<>();
+        StringJoiner allowed = new StringJoiner(", ");
+        for (E constant : type.getEnumConstants()) {
+            values.put(normalize(constant.name()), constant);
+            allowed.add(constant.name());
+        }
+        return new EnumLookup<>(label, Collections.unmodifiableMap(values), allowed.toString());
+    }
+
+    /**
+     * @return 값이 없으면(null/공백) null
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public E parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        E constant = values.get(normalize(value));
+        if (constant == null) {
+            throw new IllegalArgumentException("알 수 없는 " + label + " 값입니다: " + value + " (가능한 값: " + allowed + ")");
+        }
+        return constant;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase(Locale.ROOT).replace('-', '_').replace(' ', '_');
+    }
+}
@@ -0,0 +1,86 @@
+package com.kobe.pokekernle.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.util
+ * fileName       : ImageVariants
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 업로드 이미지의 고정 폭 파생 이미지(썸네일) URL 규칙
+ *                  원본 images/abc.png 옆에 images/abc_w400.jpg, images/abc_w400.webp 형태로 저장되며,
+ *                  어떤 파생 이미지가 있는지는 "jpg,webp:200,400,800" 형태의 스펙 문자열로 엔티티에 보관합니다.
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+public final class ImageVariants {
+
+    public static final String JPEG = "jpg";
+    public static final String WEBP = "webp";
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 스펙 문자열 생성 (예: "jpg,webp:200,400,800")
+     */
+    public static String spec(List<String> formats, List<Integer> widths) {
+        if (formats.isEmpty() || widths.isEmpty()) {
+            return null;
+        }
+        return String.join(",", formats) + ":" + widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 파생 이미지 URL (원본 URL의 확장자 자리에 _w{폭}.{형식}을 붙임)
+     */
+    public static String variantUrl(String originalUrl, int width, String format) {
+        int slash = originalUrl.lastIndexOf('/');
+        int dot = originalUrl.lastIndexOf('.');
+        String base = dot > slash ? originalUrl.substring(0, dot) : originalUrl;
+        return base + "_w" + width + "." + format;
+    }
+
+    /**
+     * 스펙에 해당하는 모든 파생 이미지 URL (삭제 등 정리용)
+     */
+    public static List<String> variantUrls(String originalUrl, String spec) {
+        if (originalUrl == null || spec == null || spec.indexOf(':') < 0) {
+            return List.of();
+        }
+        int colon = spec.indexOf(':');
+        List<String> urls = new ArrayList<>();
+        for (String format : spec.substring(0, colon).split(",")) {
+            for (String width : spec.substring(colon + 1).split(",")) {
+                if (!format.isBlank() && !width.isBlank()) {
+                    urls.add(variantUrl(originalUrl, Integer.parseInt(width.trim()), format.trim()));
+                }
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * img/source 태그의 srcset 값 (예: ".../abc_w200.jpg 200w, .../abc_w400.jpg 400w")
+     * @return 해당 형식의 파생 이미지가 없으면 null
+     */
+    public static String srcset(String originalUrl, String spec, String format) {
+        if (originalUrl == null || originalUrl.isBlank() || spec == null || spec.isBlank()) {
+            return null;
+        }
+        int colon = spec.indexOf(':');
+        if (colon < 0 || !Arrays.asList(spec.substring(0, colon).split(",")).contains(format)) {
+            return null;
+        }
+        return Arrays.stream(spec.substring(colon + 1).split(","))
+                .map(String::trim)
+                .filter(width -> !width.isEmpty())
+                .map(width -> variantUrl(originalUrl, Integer.parseInt(width), format) + " " + width + "w")
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -18,8 +18,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -33,6 +35,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2025. 12. 21.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       유저별 컬렉션 합계 집계 테스트 추가
+ * 2026. 10. 19.        kobe       키셋 페이지 조회 테스트 추가
  */
 @DataJpaTest // JPA 관련 빈만 로드하여 가볍게 테스트 (H2 사용)
 @Import(QueryDslConfig.class) // QueryDSL 설정이 필요하다면 추가 (현재는 필수가 아님)
@@ -97,4 +101,98 @@ class UserCardRepositoryTest {
         System.out.println("생성일자: " + findUserCard.getCreatedAt());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("컬렉션 합계는 유저의 카드 수, 구매액 합계, 시세 합계를 한 번에 집계해야 한다.")
+    void sumByUserId() {
+        // 1. [GIVEN] 시세가 있는 카드와 없는 카드를 하나씩 보유한 유저
+        User user = userRepository.save(User.builder()
+                .email("misty@pokemon.com")
+                .password("1234")
+                .nickname("이슬")
+                .role(Role.USER)
+                .build());
+
+        Card pricedCard = cardRepository.save(Card.builder()
+                .name("고라파덕")
+                .setName("151")
+                .number("54/165")
+                .rarity(Rarity.COMMON)
+                .build());
+        Card unpricedCard = cardRepository.save(Card.builder()
+                .name("스타미")
+                .setName("151")
+                .number("121/165")
+                .rarity(Rarity.COMMON)
+                .build());
+        marketPriceRepository.save(MarketPrice.builder()
+                .card(pricedCard)
+                .price(new BigDecimal("12.50"))
+                .currency("USD")
+                .source("Manual")
+                .build());
+
+        userCardRepository.save(UserCard.builder()
+                .user(user).card(pricedCard).status(CollectionStatus.OWNED)
+                .purchasePrice(new BigDecimal("10.00"))
+                .build());
+        userCardRepository.save(UserCard.builder()
+                .user(user).card(unpricedCard).status(CollectionStatus.OWNED)
+                .purchasePrice(new BigDecimal("3.00"))
+                .build());
+        em.flush();
+        em.clear();
+
+        // 2. [WHEN] 합계 조회
+        UserCardRepository.CollectionTotals totals = userCardRepository.sumByUserId(user.getId());
+
+        // 3. [THEN] 구매액은 모두 더하고, 시세는 있는 카드만 더한다
+        assertThat(totals.getCardCount()).isEqualTo(2L);
+        assertThat(totals.getTotalPurchase()).isEqualByComparingTo(new BigDecimal("13.00"));
+        assertThat(totals.getTotalMarketValue()).isEqualByComparingTo(new BigDecimal("12.50"));
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회는 최신순으로 이어지며 카드와 시세를 함께 가져와야 한다.")
+    void findPageWithPriceAfter() {
+        // 1. [GIVEN] 카드 3장을 순서대로 수집 (첫 카드만 시세 있음)
+        User user = userRepository.save(User.builder()
+                .email("brock@pokemon.com")
+                .password("1234")
+                .nickname("웅")
+                .role(Role.USER)
+                .build());
+        for (int i = 1; i <= 3; i++) {
+            Card card = cardRepository.save(Card.builder()
+                    .name("꼬마돌 " + i)
+                    .setName("151")
+                    .number(i + "/165")
+                    .rarity(Rarity.COMMON)
+                    .build());
+            if (i == 1) {
+                marketPriceRepository.save(MarketPrice.builder()
+                        .card(card).price(new BigDecimal("1.00")).currency("USD").source("Manual")
+                        .build());
+            }
+            userCardRepository.save(UserCard.builder()
+                    .user(user).card(card).status(CollectionStatus.OWNED).cardCondition(CardCondition.MINT)
+                    .purchasePrice(BigDecimal.ONE)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        // 2. [WHEN] 2건씩 첫 페이지와 다음 페이지 조회
+        List<Object[]> first = userCardRepository.findPageWithPrice(user.getId(), PageRequest.of(0, 2));
+        UserCard last = (UserCard) first.get(first.size() - 1)[0];
+        List<Object[]> second = userCardRepository.findPageWithPriceAfter(
+                user.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // 3. [THEN] 최신순으로 겹치지 않게 이어지고, 카드와 시세가 함께 조회된다
+        assertThat(first).extracting(row -> ((UserCard) row[0]).getCard().getName())
+                .containsExactly("꼬마돌 3", "꼬마돌 2");
+        assertThat(second).hasSize(1);
+        assertThat(((UserCard) second.get(0)[0]).getCard().getName()).isEqualTo("꼬마돌 1");
+        assertThat(((MarketPrice) second.get(0)[1]).getPrice()).isEqualByComparingTo(new BigDecimal("1.00"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.kobe.pokekernle.domain.collection.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.collection.service
+ * fileName       : PortfolioCurveTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class PortfolioCurveTest {
+
+    @Test
+    @DisplayName("시세는 다음 기록 전까지 이어지고, 카드는 수집한 날부터 평가액에 더해진다.")
+    void buildForwardFillsPricesFromAcquisitionDay() {
+        // 1. [GIVEN] 카드 1: 0일 100, 3일 150 / 카드 2: 2일 50 (1일에 2장 수집, 4일에 1장 더 수집)
+        Map<Long, PortfolioCurve.PriceSeries> series = Map.of(
+                1L, new PortfolioCurve.PriceSeries(new int[]{0, 3}, new long[]{100, 150}),
+                2L, new PortfolioCurve.PriceSeries(new int[]{2}, new long[]{50}));
+        Map<Long, int[]> acquisitions = Map.of(
+                1L, new int[]{0},
+                2L, new int[]{1, 1, 4});
+
+        // 2. [WHEN] 0일 ~ 5일 곡선 계산
+        PortfolioCurve curve = PortfolioCurve.build(0, 5, acquisitions, series);
+
+        // 3. [THEN] 날짜별 평가액 (카드 2는 시세가 생긴 2일부터 반영)
+        assertThat(curve.valuesFrom(0)).containsExactly(100, 100, 200, 250, 300, 300);
+    }
+
+    @Test
+    @DisplayName("새 시세를 반영하면 다시 계산한 곡선과 같아야 한다.")
+    void applyPriceChangeMatchesRebuild() {
+        // 1. [GIVEN] 카드 1을 0일에 1장, 2일에 1장 수집 (시세: 0일 100, 3일 120)
+        PortfolioCurve.PriceSeries oldSeries = new PortfolioCurve.PriceSeries(new int[]{0, 3}, new long[]{100, 120});
+        Map<Long, int[]> acquisitions = Map.of(1L, new int[]{0, 2});
+        PortfolioCurve curve = PortfolioCurve.build(0, 3, acquisitions, Map.of(1L, oldSeries));
+
+        // 2. [WHEN] 날짜를 이어 붙이고, 과거(1일)와 마지막 이후(6일)에 시세 기록 추가
+        curve.extendTo(7);
+        PortfolioCurve.PriceSeries middle = oldSeries.with(1, 90);
+        curve.applyPriceChange(1L, 1, oldSeries, middle);
+        PortfolioCurve.PriceSeries latest = middle.with(6, 200);
+        curve.applyPriceChange(1L, 6, middle, latest);
+
+        // 3. [THEN] 처음부터 다시 계산한 결과와 같다
+        PortfolioCurve rebuilt = PortfolioCurve.build(0, 7, acquisitions, Map.of(1L, latest));
+        assertThat(curve.valuesFrom(0)).containsExactly(rebuilt.valuesFrom(0));
+        assertThat(curve.valuesFrom(0)).containsExactly(100, 90, 180, 240, 240, 240, 400, 400);
+    }
+}
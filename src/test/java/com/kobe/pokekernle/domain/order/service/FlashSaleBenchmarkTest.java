@@ -0,0 +1,154 @@
+package com.kobe.pokekernle.domain.order.service;
+
+import com.kobe.pokekernle.domain.card.entity.Card;
+import com.kobe.pokekernle.domain.card.entity.Rarity;
+import com.kobe.pokekernle.domain.card.repository.CardRepository;
+import com.kobe.pokekernle.domain.order.dto.request.CreateOrderRequest;
+import com.kobe.pokekernle.domain.user.entity.Role;
+import com.kobe.pokekernle.domain.user.entity.User;
+import com.kobe.pokekernle.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.order.service
+ * fileName       : FlashSaleBenchmarkTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    : 한 카드에 구매 요청이 몰릴 때 기존 주문 경로와 한정 판매 대기열의 초당 처리량 비교
+ *                  ./gradlew test --tests '*FlashSaleBenchmarkTest' -Dbenchmark=true
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.cloud.aws.secretsmanager.enabled=false",
+        "spring.cloud.aws.region.static=us-east-1",
+        "app.order.flash-sale.wait-timeout-ms=60000"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FlashSaleBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int ATTEMPTS = 4000;
+    private static final int STOCK = 2000;
+
+    @Autowired OrderService orderService;
+    @Autowired FlashSaleService flashSaleService;
+    @Autowired CardRepository cardRepository;
+    @Autowired UserRepository userRepository;
+
+    private record Result(long succeeded, long rejected, long failed, long elapsedNanos) {
+        double attemptsPerSecond() {
+            return ATTEMPTS / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+
+    private interface Attempt {
+        void run();
+    }
+
+    @Test
+    @DisplayName("한 카드에 대한 초당 구매 시도 처리량: 기존 경로 vs 한정 판매 대기열")
+    void compareSingleSkuThroughput() throws InterruptedException {
+        // 1. [GIVEN] 같은 재고를 가진 일반 카드와 드롭 모드 카드
+        User user = userRepository.save(User.builder()
+                .email("bench-" + System.nanoTime() + "@pokemon.com")
+                .password("1234")
+                .nickname("벤치마크")
+                .role(Role.USER)
+                .build());
+        Card normalCard = cardRepository.save(card("일반 판매 카드"));
+        Card dropCard = cardRepository.save(card("한정 판매 카드"));
+        flashSaleService.changeDropMode(dropCard.getId(), true);
+
+        // 2. [WHEN] 재고보다 많은 구매 시도를 동시에 실행
+        Result direct = run(() -> orderService.createOrder(user.getId(), request(normalCard.getId())));
+        Result queued = run(() -> flashSaleService.order(user.getId(), request(dropCard.getId())));
+
+        System.out.printf("[BENCHMARK] 기존 경로   : %.0f attempts/s (성공 %d, 거절 %d, 오류 %d, 남은 재고 %d)%n",
+                direct.attemptsPerSecond(), direct.succeeded(), direct.rejected(), direct.failed(),
+                cardRepository.findById(normalCard.getId()).orElseThrow().getQuantity());
+        int dropRemaining = cardRepository.findById(dropCard.getId()).orElseThrow().getQuantity();
+        System.out.printf("[BENCHMARK] 한정 판매 대기열: %.0f attempts/s (성공 %d, 거절 %d, 오류 %d, 남은 재고 %d)%n",
+                queued.attemptsPerSecond(), queued.succeeded(), queued.rejected(), queued.failed(), dropRemaining);
+
+        // 3. [THEN] 대기열 경로는 재고만큼만 정확히 판매
+        assertThat(queued.failed()).isZero();
+        assertThat(dropRemaining).isZero();
+        assertThat(queued.succeeded()).isEqualTo(STOCK);
+    }
+
+    private Result run(Attempt attempt) throws InterruptedException {
+        AtomicInteger remaining = new AtomicInteger(ATTEMPTS);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (remaining.getAndDecrement() > 0) {
+                    try {
+                        attempt.run();
+                        succeeded.incrementAndGet();
+                    } catch (IllegalArgumentException | OrderQueueFullException e) {
+                        rejected.incrementAndGet(); // 품절, 재고 부족, 대기열 초과
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet(); // 락 타임아웃 등
+                    }
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        return new Result(succeeded.get(), rejected.get(), failed.get(), System.nanoTime() - startedAt);
+    }
+
+    private Card card(String name) {
+        return Card.builder()
+                .name(name)
+                .setName("Benchmark")
+                .number("1/1")
+                .rarity(Rarity.RARE)
+                .salePrice(1000L)
+                .quantity(STOCK)
+                .build();
+    }
+
+    private CreateOrderRequest request(Long cardId) {
+        CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+        item.setCardId(cardId);
+        item.setQuantity(1);
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(item));
+        return request;
+    }
+}
@@ -0,0 +1,138 @@
+package com.kobe.pokekernle.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kobe.pokekernle.domain.order.dto.request.CreateOrderRequest;
+import com.kobe.pokekernle.domain.order.dto.response.OrderResponse;
+import com.kobe.pokekernle.domain.order.entity.OrderStatus;
+import com.kobe.pokekernle.domain.order.repository.OrderIdempotencyKeyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName    : com.kobe.pokekernle.domain.order.service
+ * fileName       : OrderIdempotencyServiceTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ * 2026. 10. 19.        kobe       처리 기한이 지난 키 이어받기 테스트 추가
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스가 리포지토리 트랜잭션을 직접 사용하므로 테스트 트랜잭션으로 감싸지 않음
+class OrderIdempotencyServiceTest {
+
+    @Autowired OrderIdempotencyKeyRepository idempotencyKeyRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 요청하면 주문을 다시 만들지 않고 저장된 응답을 돌려준다.")
+    void replayReturnsStoredResponse() {
+        // 1. [GIVEN] 최초 요청으로 주문 생성
+        AtomicInteger executions = new AtomicInteger();
+        CreateOrderRequest request = orderRequest(10L, 1);
+        OrderIdempotencyService service = newService();
+
+        OrderIdempotencyService.Result first = service.execute(1L, "key-replay", "orders", request,
+                () -> orderResponse(100L, executions.incrementAndGet()));
+
+        // 2. [WHEN] 메모리 캐시가 비어 있는 다른 인스턴스에서 같은 키로 재요청 (DB 조회 경로)
+        OrderIdempotencyService.Result replay = newService().execute(1L, "key-replay", "orders", request,
+                () -> orderResponse(200L, executions.incrementAndGet()));
+
+        // 3. [THEN] 주문 로직은 한 번만 실행되고 같은 응답을 돌려받는다
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.response().getId()).isEqualTo(100L);
+        assertThat(replay.response().getTotalPrice()).isEqualTo(first.response().getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다른 요청을 보내면 예외가 발생한다.")
+    void differentRequestWithSameKeyIsRejected() {
+        OrderIdempotencyService service = newService();
+        service.execute(2L, "key-mismatch", "orders", orderRequest(10L, 1), () -> orderResponse(300L, 1));
+
+        assertThatThrownBy(() -> service.execute(2L, "key-mismatch", "orders", orderRequest(10L, 2),
+                () -> orderResponse(301L, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("주문이 실패하면 키 선점이 해제되어 같은 키로 다시 시도할 수 있다.")
+    void failedOrderReleasesKey() {
+        OrderIdempotencyService service = newService();
+        CreateOrderRequest request = orderRequest(10L, 1);
+
+        assertThatThrownBy(() -> service.execute(3L, "key-retry", "orders", request, () -> {
+            throw new IllegalArgumentException("재고가 부족합니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        OrderIdempotencyService.Result retry = service.execute(3L, "key-retry", "orders", request, () -> orderResponse(400L, 1));
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.response().getId()).isEqualTo(400L);
+    }
+
+    @Test
+    @DisplayName("처리 도중 중단되어 처리 기한이 지난 키는 재요청이 이어받아 주문을 다시 실행한다.")
+    void staleProcessingKeyIsTakenOver() {
+        // 1. [GIVEN] 선점 후 응답을 저장하지 못하고 중단된 요청 (처리 기한이 이미 지나도록 설정)
+        CreateOrderRequest request = orderRequest(10L, 1);
+        OrderIdempotencyService crashed = newService(-1);
+        assertThatThrownBy(() -> crashed.execute(4L, "key-stale", "orders", request, () -> {
+            throw new AssertionError("서버 중단");
+        })).isInstanceOf(AssertionError.class);
+
+        // 2. [WHEN] 같은 키로 재요청
+        OrderIdempotencyService.Result retry = newService().execute(4L, "key-stale", "orders", request,
+                () -> orderResponse(500L, 1));
+
+        // 3. [THEN] 409 대신 이어받아 주문이 생성된다
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.response().getId()).isEqualTo(500L);
+    }
+
+    private OrderIdempotencyService newService() {
+        return newService(300);
+    }
+
+    private OrderIdempotencyService newService(long processingTimeoutSeconds) {
+        return new OrderIdempotencyService(idempotencyKeyRepository, objectMapper, transactionManager, 24, processingTimeoutSeconds, 100);
+    }
+
+    private CreateOrderRequest orderRequest(Long cardId, int quantity) {
+        CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+        item.setCardId(cardId);
+        item.setQuantity(quantity);
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(item));
+        return request;
+    }
+
+    private OrderResponse orderResponse(Long orderId, long totalPrice) {
+        return OrderResponse.builder()
+                .id(orderId)
+                .items(List.of())
+                .totalPrice(totalPrice)
+                .status(OrderStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
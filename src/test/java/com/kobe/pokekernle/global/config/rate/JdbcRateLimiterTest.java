@@ -0,0 +1,87 @@
+package com.kobe.pokekernle.global.config.rate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.config.rate
+ * fileName       : JdbcRateLimiterTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 버킷 갱신이 별도 트랜잭션(REQUIRES_NEW)으로 커밋되어야 서버 간에 공유됨
+class JdbcRateLimiterTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Test
+    @DisplayName("여러 서버가 같은 DB 버킷을 나눠 쓰면 전체 허용 횟수가 capacity를 넘지 않는다.")
+    void limitIsSharedAcrossNodes() {
+        // 1. [GIVEN] 같은 DB를 쓰는 서버 두 대 (각자 capacity의 30%씩 미리 임대)
+        RateLimitRule rule = new RateLimitRule(10, Duration.ofHours(1));
+        JdbcRateLimiter nodeA = newLimiter(0.3);
+        JdbcRateLimiter nodeB = newLimiter(0.3);
+
+        // 2. [WHEN] 두 서버에 번갈아 20번 요청
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            JdbcRateLimiter node = i % 2 == 0 ? nodeA : nodeB;
+            if (node.tryConsume("test:shared", rule, 1)) {
+                allowed++;
+            }
+        }
+
+        // 3. [THEN] 서버 수와 관계없이 capacity만큼만 허용된다
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("리필 시각이 지나면 버킷이 다시 가득 찬다.")
+    void bucketRefillsAfterPeriod() throws InterruptedException {
+        RateLimitRule rule = new RateLimitRule(2, Duration.ofMillis(300));
+        JdbcRateLimiter limiter = newLimiter(0.5);
+
+        assertThat(limiter.tryConsume("test:refill", rule, 1)).isTrue();
+        assertThat(limiter.tryConsume("test:refill", rule, 1)).isTrue();
+        assertThat(limiter.tryConsume("test:refill", rule, 1)).isFalse();
+
+        Thread.sleep(400);
+
+        assertThat(limiter.tryConsume("test:refill", rule, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 번에 차감할 토큰이 남은 토큰보다 많으면 거절하고 남은 토큰은 그대로 둔다.")
+    void insufficientTokensAreNotTaken() {
+        RateLimitRule rule = new RateLimitRule(5, Duration.ofHours(1));
+        JdbcRateLimiter limiter = newLimiter(0);
+
+        assertThat(limiter.tryConsume("test:weight", rule, 4)).isTrue();
+        assertThat(limiter.tryConsume("test:weight", rule, 2)).isFalse();
+        assertThat(limiter.tryConsume("test:weight", rule, 1)).isTrue();
+    }
+
+    private JdbcRateLimiter newLimiter(double prefetchRatio) {
+        return new JdbcRateLimiter(jdbcTemplate, transactionManager, prefetchRatio, 1000, 60, meterRegistry);
+    }
+}
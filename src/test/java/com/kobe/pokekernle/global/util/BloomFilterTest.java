@@ -0,0 +1,48 @@
+package com.kobe.pokekernle.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.util
+ * fileName       : BloomFilterTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있다고 판단하고, 넣지 않은 값의 오판율은 목표 근처다.")
+    void noFalseNegativesAndBoundedFalsePositives() {
+        // 1. [GIVEN] 오판율 1%로 만든 필터에 10,000개를 넣음
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("images/" + i + ".jpg");
+        }
+
+        // 2. [WHEN] 넣은 값과 넣지 않은 값을 조회
+        int falseNegatives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (!filter.mightContain("images/" + i + ".jpg")) {
+                falseNegatives++;
+            }
+        }
+        int falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (filter.mightContain("images/" + i + ".jpg")) {
+                falsePositives++;
+            }
+        }
+
+        // 3. [THEN] 넣은 값은 모두 찾고, 넣지 않은 값은 대부분 없다고 판단한다
+        assertThat(falseNegatives).isZero();
+        assertThat(falsePositives).isLessThan(300); // 목표 1% (100개)의 여유 있는 상한
+    }
+}
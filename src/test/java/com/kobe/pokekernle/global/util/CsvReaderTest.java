@@ -0,0 +1,62 @@
+package com.kobe.pokekernle.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName    : com.kobe.pokekernle.global.util
+ * fileName       : CsvReaderTest
+ * author         : kobe
+ * date           : 2026. 10. 19.
+ * description    :
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026. 10. 19.        kobe       최초 생성
+ */
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("CsvWriter로 쓴 행은 쉼표, 따옴표, 줄바꿈이 있어도 CsvReader로 그대로 읽힌다.")
+    void roundTripsQuotedValues() throws IOException {
+        // 1. [GIVEN] 특수 문자가 섞인 값과 null을 BOM과 함께 씀
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeBom();
+        writer.writeRow("setName", "number", "memo");
+        writer.writeRow("151", "7/165", "서대전역, \"자판기\"\n두 번째 줄");
+        writer.writeRow("151", null, "");
+
+        // 2. [WHEN] 다시 읽음
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+
+        // 3. [THEN] 원래 값과 같고, 여러 줄 값 다음 행의 줄 번호도 맞다
+        assertThat(reader.next()).containsExactly("setName", "number", "memo");
+        assertThat(reader.next()).containsExactly("151", "7/165", "서대전역, \"자판기\"\n두 번째 줄");
+        assertThat(reader.next()).containsExactly("151", "", "");
+        assertThat(reader.lineNumber()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 줄은 건너뛰고, 닫히지 않은 따옴표는 줄 번호와 함께 실패한다.")
+    void skipsBlankLinesAndRejectsUnclosedQuotes() throws IOException {
+        // 1. [GIVEN] LF/CRLF가 섞이고 빈 줄이 있으며 마지막 행의 따옴표가 닫히지 않은 CSV
+        CsvReader reader = new CsvReader(new StringReader("a,b\n\r\nc,d\r\n\"e,f\n"));
+
+        // 2. [WHEN] & 3. [THEN]
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThat(reader.next()).containsExactly("c", "d");
+        assertThat(reader.lineNumber()).isEqualTo(3);
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("4행");
+    }
+}